@@ -0,0 +1,307 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Scanner;
+import java.util.function.Consumer;
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implements a Queue data structure using a circular array.
+//  The elements are stored between a head and a tail position that
+//  wrap around the end of the array. The size of the array is always
+//  a power of two, so wrapping a position is a bit mask instead of a
+//  division, and the array doubles when it is full.
+//
+// Visibility:
+//  This class is public. Any class can instantiate it.
+// -------------------------------------------------------------------
+public class ArrayRingQueue<T> implements Queue<T> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the circular array, the position of the next element of
+    //  the Queue and the amount of elements.
+    //
+    // Visibility:
+    //  Private. Only the ArrayRingQueue can modify the array.
+    // -------------------------------------------------------------------
+    private Object[] items;
+    private int head = 0;
+    private int length = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  The constructor responsible for initializing an empty Queue.
+    //
+    // Input:
+    //  An optional initial capacity, rounded up to a power of two.
+    // -------------------------------------------------------------------
+    public ArrayRingQueue() {
+        this(16);
+    }
+    public ArrayRingQueue(int capacity) {
+        int size = 2;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        items = new Object[size];
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Puts an instance of type `T` at the end of the Queue.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1) amortized: the array only grows when it is full.
+    // -------------------------------------------------------------------
+    public void shift(T x) {
+        if (length == items.length) {
+            grow();
+        }
+        items[(head + length) & (items.length - 1)] = x;
+        length++;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Doubling the array.
+    // -------------------------------------------------------------------
+    private void grow() {
+        resize(items.length * 2);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Moving the elements to a larger array, whose capacity must be a
+    //  power of two. The elements are copied in Queue order, so the next
+    //  element ends up at position 0.
+    //
+    // Complexity:
+    //  O(N): Every element is copied once.
+    // -------------------------------------------------------------------
+    private void resize(int capacity) {
+        Object[] larger = new Object[capacity];
+        int first = Math.min(length, items.length - head);
+        System.arraycopy(items, head, larger, 0, first);
+        System.arraycopy(items, 0, larger, first, length - first);
+        items = larger;
+        head = 0;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the next element of the Queue. The slot is cleared, so
+    //  the array does not keep the element alive.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public void unshift() {
+        if (length == 0) {
+            return;
+        }
+        items[head] = null;
+        head = (head + 1) & (items.length - 1);
+        length--;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the next element of the Queue and returns it, or returns
+    //  null if the Queue is empty.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (length == 0) {
+            return null;
+        }
+        T x = (T) items[head];
+        items[head] = null;
+        head = (head + 1) & (items.length - 1);
+        length--;
+        return x;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns a reference to the next value in the Queue, or null if
+    //  the Queue is empty.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (length == 0) {
+            return null;
+        }
+        return (T) items[head];
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes up to `max` elements from the front of the Queue and
+    //  passes them to a Consumer, clearing their slots.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Output:
+    //  The amount of elements removed.
+    //
+    // Complexity:
+    //  O(M): M is the amount of elements removed.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> consumer, int max) {
+        int count = Math.min(Math.max(max, 0), length);
+        int mask = items.length - 1;
+        for (int i = 0; i < count; i++) {
+            T x = (T) items[head];
+            items[head] = null;
+            head = (head + 1) & mask;
+            length--;
+            consumer.accept(x);
+        }
+        return count;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Puts every value at the end of the Queue. When the size of the
+    //  values is known, the array is resized once, to the first power of
+    //  two that fits them, before copying them.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(M): M is the amount of values.
+    // -------------------------------------------------------------------
+    public void shiftAll(Iterable<? extends T> values) {
+        if (values instanceof Collection) {
+            int needed = length + ((Collection<?>) values).size();
+            int size = items.length;
+            while (size < needed) {
+                size <<= 1;
+            }
+            if (size != items.length) {
+                resize(size);
+            }
+        }
+        for (T x : values) {
+            shift(x);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if the Queue is empty.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes all elements from the Queue, clearing every slot.
+    //
+    // Complexity:
+    //  O(C): C is the capacity of the array.
+    // -------------------------------------------------------------------
+    public void empty() {
+        Arrays.fill(items, null);
+        head = 0;
+        length = 0;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the size of the Queue.
+    //
+    // Complexity:
+    //  O(1): The size is stored in memory.
+    // -------------------------------------------------------------------
+    public int length() {
+        return length;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the Queue into a String, in the same format as the
+    //  StackedQueue: from the last element added to the next element.
+    //
+    // Complexity:
+    //  O(N): Every element is read once.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        int mask = items.length - 1;
+        for (int i = length - 1; i >= 0; i--) {
+            output.append(items[(head + i) & mask]).append(", ");
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  This method retrieves a list of values from STDIN, adds them to
+    //  the Queue, removes some of them and prints the Queue to STDOUT.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) {
+
+        // Declaring variables.
+        Scanner scanner;
+        ArrayRingQueue<String> queue;
+        String[] values;
+        int unshifted;
+
+        // Initializing variables.
+        scanner = new Scanner(System.in);
+        queue = new ArrayRingQueue<String>(4);
+        unshifted = 0;
+
+        // Collecting list data from STDIN.
+        System.out.println("Insert a comma separated list of values:");
+        System.out.print(">>> ");
+        values = scanner.next().split(",");
+        for (int i = 0; i < values.length; i++) {
+            queue.shift(values[i]);
+        }
+
+        // Collecting the amount of elements to remove.
+        try {
+            System.out.println("How many elements to unshift from the Queue?");
+            System.out.print(">>> ");
+            unshifted = scanner.nextInt();
+        } catch (java.util.InputMismatchException error) {}
+
+        // Unshifting from the Queue.
+        for (int i = 0; i < unshifted; i++) {
+            queue.unshift();
+        }
+
+        // Printing the Queue.
+        System.out.println("Queue:");
+        System.out.println(queue);
+
+    }
+}
@@ -0,0 +1,256 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Scanner;
+import java.util.function.Consumer;
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implements a Stack data structure using an array.
+//  The top of the Stack is the last used position of the array. The
+//  size of the array is always a power of two, and the array doubles
+//  when it is full.
+//
+// Visibility:
+//  This class is public. Any class can instantiate it.
+// -------------------------------------------------------------------
+public class ArrayStack<T> implements Stack<T> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the array and the amount of elements of the Stack.
+    //
+    // Visibility:
+    //  Private. Only the ArrayStack can modify the array.
+    // -------------------------------------------------------------------
+    private Object[] items;
+    private int length = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  The constructor responsible for initializing an empty Stack.
+    //
+    // Input:
+    //  An optional initial capacity, rounded up to a power of two.
+    // -------------------------------------------------------------------
+    public ArrayStack() {
+        this(16);
+    }
+    public ArrayStack(int capacity) {
+        int size = 2;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        items = new Object[size];
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Puts an instance of type `T` on top of the Stack.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1) amortized: the array only grows when it is full.
+    // -------------------------------------------------------------------
+    public void push(T x) {
+        if (length == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+        }
+        items[length++] = x;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the element on top of the Stack. The slot is cleared, so
+    //  the array does not keep the element alive.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public void pop() {
+        if (length == 0) {
+            return;
+        }
+        items[--length] = null;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the element on top of the Stack and returns it, or
+    //  returns null if the Stack is empty.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public T popValue() {
+        if (length == 0) {
+            return null;
+        }
+        T x = (T) items[--length];
+        items[length] = null;
+        return x;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns a reference to the element on top of the Stack, or null
+    //  if the Stack is empty.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (length == 0) {
+            return null;
+        }
+        return (T) items[length - 1];
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes up to `max` elements from the top of the Stack and
+    //  passes them to a Consumer, clearing their slots.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Output:
+    //  The amount of elements removed.
+    //
+    // Complexity:
+    //  O(M): M is the amount of elements removed.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> consumer, int max) {
+        int count = Math.min(Math.max(max, 0), length);
+        for (int i = 0; i < count; i++) {
+            T x = (T) items[--length];
+            items[length] = null;
+            consumer.accept(x);
+        }
+        return count;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Pushes every value to the Stack. When the size of the values is
+    //  known, the array grows once before copying them.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(M): M is the amount of values.
+    // -------------------------------------------------------------------
+    public void pushAll(Iterable<? extends T> values) {
+        if (values instanceof Collection) {
+            int needed = length + ((Collection<?>) values).size();
+            int size = items.length;
+            while (size < needed) {
+                size <<= 1;
+            }
+            if (size != items.length) {
+                items = Arrays.copyOf(items, size);
+            }
+        }
+        for (T x : values) {
+            push(x);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if the Stack is empty.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes all elements from the Stack, clearing every used slot.
+    //
+    // Complexity:
+    //  O(N): Every used slot is cleared.
+    // -------------------------------------------------------------------
+    public void empty() {
+        Arrays.fill(items, 0, length, null);
+        length = 0;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the size of the Stack.
+    //
+    // Complexity:
+    //  O(1): The size is stored in memory.
+    // -------------------------------------------------------------------
+    public int length() {
+        return length;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the Stack into a String, from the top to the bottom,
+    //  in the same format as the LinkedList.
+    //
+    // Complexity:
+    //  O(N): Every element is read once.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        for (int i = length - 1; i >= 0; i--) {
+            output.append('|').append(items[i]).append(i > 0 ? "|->" : "|");
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  This method retrieves a list of values from STDIN, pushes them
+    //  to the Stack, pops one of them and prints the Stack to STDOUT.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) {
+
+        // Declaring variables.
+        Scanner scanner;
+        ArrayStack<String> stack;
+        String[] values;
+
+        // Initializing variables.
+        scanner = new Scanner(System.in);
+        stack = new ArrayStack<String>(4);
+
+        // Collecting list data from STDIN.
+        System.out.println("Insert a comma separated list of values:");
+        System.out.print(">>> ");
+        values = scanner.next().split(",");
+        for (int i = 0; i < values.length; i++) {
+            stack.push(values[i]);
+        }
+
+        // Popping the top of the Stack.
+        stack.pop();
+
+        // Printing the Stack.
+        System.out.println("Stack:");
+        System.out.println(stack);
+
+    }
+}
@@ -0,0 +1,245 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implements a thread-safe HashMap data structure using lock
+//  striping. The entries are split across independent segments, each
+//  one being a regular HashTable guarded by its own read-write lock.
+//  Threads working on different segments never wait for each other,
+//  and a segment that grows only blocks the threads using it.
+//
+// Visibility:
+//  This class is public. Any class can instantiate it.
+// -------------------------------------------------------------------
+public class ConcurrentHashTable<T> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the segments of the table and the lock of each segment.
+    //  The amount of segments is a power of two.
+    //
+    // Visibility:
+    //  Private. Only the ConcurrentHashTable can access the segments.
+    // -------------------------------------------------------------------
+    private HashTable<T>[] segments;
+    private ReentrantReadWriteLock[] locks;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Storing the amount of bits to shift a mixed hash to obtain the
+    //  index of its segment.
+    // -------------------------------------------------------------------
+    private int shift;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  The constructor responsible for initializing an empty HashMap.
+    //
+    // Input:
+    //  An optional initial size and an optional amount of threads
+    //  expected to use the table at the same time. The amount of
+    //  segments is rounded up to the next power of two.
+    // -------------------------------------------------------------------
+    public ConcurrentHashTable() {
+        this(16, 16);
+    }
+    public ConcurrentHashTable(int size) {
+        this(size, 16);
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentHashTable(int size, int concurrencyLevel) {
+        int count = 1;
+        int bits = 0;
+        while (count < concurrencyLevel) {
+            count <<= 1;
+            bits++;
+        }
+        shift = 32 - bits;
+        segments = (HashTable<T>[]) new HashTable[count];
+        locks = new ReentrantReadWriteLock[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new HashTable<T>(Math.max(size / count, 2));
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Finding the segment of a value.
+    //  The segments use the upper bits of the mixed hash, while the
+    //  HashTable of each segment uses the lower bits of the hash, so
+    //  the entries of a segment still spread across all its slots.
+    //
+    // Output:
+    //  The index of the segment responsible for the value.
+    // -------------------------------------------------------------------
+    private int segmentFor(T value) {
+        if (shift == 32) {
+            return 0;
+        }
+        int hash = ((Hashable)value).getHash();
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Adding a new entry to the hash table, replacing an equal entry if
+    //  it exists. Only the segment of the entry is locked.
+    //
+    // Visibility:
+    //  This method is public. Any thread can call it.
+    // -------------------------------------------------------------------
+    public void add(T value) {
+        int i = segmentFor(value);
+        locks[i].writeLock().lock();
+        try {
+            segments[i].add(value);
+        } finally {
+            locks[i].writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the stored entry that is equal to the given value, or
+    //  null if it does not exist. Many threads can read the same segment
+    //  at the same time.
+    //
+    // Visibility:
+    //  This method is public. Any thread can call it.
+    // -------------------------------------------------------------------
+    public T get(T key) {
+        int i = segmentFor(key);
+        locks[i].readLock().lock();
+        try {
+            return segments[i].get(key);
+        } finally {
+            locks[i].readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if an entry equal to the given value is stored.
+    //
+    // Visibility:
+    //  This method is public. Any thread can call it.
+    // -------------------------------------------------------------------
+    public boolean containsKey(T key) {
+        int i = segmentFor(key);
+        locks[i].readLock().lock();
+        try {
+            return segments[i].containsKey(key);
+        } finally {
+            locks[i].readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the entry that is equal to the given value.
+    //
+    // Visibility:
+    //  This method is public. Any thread can call it.
+    //
+    // Output:
+    //  True if the entry was removed. False if it did not exist.
+    // -------------------------------------------------------------------
+    public boolean remove(T key) {
+        int i = segmentFor(key);
+        locks[i].writeLock().lock();
+        try {
+            return segments[i].remove(key);
+        } finally {
+            locks[i].writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the amount of entries stored in the table.
+    //  The segments are counted one at a time, so the result is not a
+    //  snapshot if other threads are modifying the table.
+    //
+    // Complexity:
+    //  O(S): One read per segment.
+    // -------------------------------------------------------------------
+    public int length() {
+        int total = 0;
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].readLock().lock();
+            try {
+                total += segments[i].length();
+            } finally {
+                locks[i].readLock().unlock();
+            }
+        }
+        return total;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the HashMap into a String, one segment at a time.
+    //  Every segment writes its slots straight into the same builder.
+    //
+    // Output:
+    //  The string representation of every segment.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            locks[i].readLock().lock();
+            try {
+                output.append("Segment ").append(i).append(":\n");
+                segments[i].writeTo(output);
+            } catch (IOException error) {
+                // A StringBuilder never fails to append.
+                throw new UncheckedIOException(error);
+            } finally {
+                locks[i].readLock().unlock();
+            }
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  This method starts a few threads that add records to the same
+    //  HashMap, then prints the amount of records to STDOUT.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) throws InterruptedException {
+
+        // Declaring variables.
+        final ConcurrentHashTable<Person> map;
+        Thread[] threads;
+
+        // Initializing variables.
+        map = new ConcurrentHashTable<Person>(1024, 4);
+        threads = new Thread[4];
+
+        // Every thread adds a different range of records.
+        for (int i = 0; i < threads.length; i++) {
+            final int first = i * 10000;
+            threads[i] = new Thread(new Runnable() {
+                public void run() {
+                    for (int j = first; j < first + 10000; j++) {
+                        map.add(new Person("96-" + j));
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        // Waiting for every thread to finish.
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+        }
+
+        // Printing the amount of records.
+        System.out.println("Records: " + map.length());
+
+    }
+}
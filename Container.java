@@ -1,7 +1,14 @@
+import java.util.Collection;
+import java.util.function.Consumer;
 
 // -------------------------------------------------------------------
 // Purpose:
 //  Defines an interface of a Queue or Stack of type `T`.
+//  `drain()` removes up to `max` elements, in the order `next()`
+//  would return them, and passes them to a Consumer. It returns how
+//  many elements were removed. Implementations remove the elements
+//  in a single pass instead of one `next()` and one removal per
+//  element.
 // -------------------------------------------------------------------
 public interface Container<T> {
     T next();
@@ -9,4 +16,9 @@ public interface Container<T> {
     void empty();
     int length();
     String toString();
+    int drain(Consumer<? super T> consumer, int max);
+
+    default int drainTo(Collection<? super T> collection, int max) {
+        return drain(collection::add, max);
+    }
 } 
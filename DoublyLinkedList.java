@@ -0,0 +1,378 @@
+import java.util.Scanner;
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implementation of a generic doubly LinkedList data structure.
+//  Every Node links to the next Node and to the previous one, and the
+//  list remembers the last Node accessed by position. Accessing a
+//  position walks from the first Node, the last Node or the remembered
+//  Node, whichever is the closest, in whichever direction is needed.
+//  Sequential access, or access near the last position, is O(1).
+//
+// Generic Data:
+//  Both the DoublyLinkedList and the Node type are generic and accept
+//  an instance of any given class, as defined when declaring the list.
+// -------------------------------------------------------------------
+public class DoublyLinkedList<T> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining references to the first and the last Nodes of the list.
+    //
+    // Visibility:
+    //  Private. Only the class can get and set the ends of the list.
+    // -------------------------------------------------------------------
+    private Node<T> firstNode = null;
+    private Node<T> lastNode = null;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the cursor: the last Node accessed by position and its
+    //  position. The cursor is not defined when `cursorNode` is null.
+    //
+    // Visibility:
+    //  Private. Only the class can move the cursor.
+    // -------------------------------------------------------------------
+    private Node<T> cursorNode = null;
+    private int cursorIndex = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining an integer counter with the size of the list.
+    //
+    // Visibility:
+    //  Private. Only the class can get and set the length of the list.
+    // -------------------------------------------------------------------
+    private int length = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Internal generic class defining a Node linked in both directions.
+    //
+    // Visibility:
+    //  Private. Only the DoublyLinkedList class can create Nodes.
+    // -------------------------------------------------------------------
+    private class Node<K> {
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Defining the data of the Node and the references to the
+        //  previous and the next Nodes.
+        // -------------------------------------------------------------------
+        private K data;
+        private Node<K> previous;
+        private Node<K> next;
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Constructor of the generic Node of the list.
+        // -------------------------------------------------------------------
+        public Node(K data, Node<K> previous, Node<K> next) {
+            this.data = data;
+            this.previous = previous;
+            this.next = next;
+        }
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Casting Node to String.
+        // -------------------------------------------------------------------
+        public String toString() {
+            if (next == null) {
+                return "|" + data + "|";
+            }
+            return "|" + data + "|<->";
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Constructing an empty list.
+    // -------------------------------------------------------------------
+    public DoublyLinkedList() {
+        firstNode = null;
+        lastNode = null;
+        length = 0;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the lenght of the list.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public int length() {
+        return length;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if the list is empty.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public boolean isEmpty() {
+        return firstNode == null;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Method to insert a Node to beginning of the list.
+    //  `add()` and `addFirst()` are the same, as in the LinkedList.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public void add(T data) {
+        addFirst(data);
+    }
+    public void addFirst(T data) {
+        Node<T> node = new Node<T>(data, null, firstNode);
+        if (firstNode == null) {
+            lastNode = node;
+        } else {
+            firstNode.previous = node;
+        }
+        firstNode = node;
+        length++;
+        // Every position moved one step forward.
+        cursorIndex++;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Method to append a Node to the end of the list.
+    //
+    // Complexity:
+    //  O(1): The last Node is always available as a reference.
+    // -------------------------------------------------------------------
+    public void addLast(T data) {
+        Node<T> node = new Node<T>(data, lastNode, null);
+        if (lastNode == null) {
+            firstNode = node;
+        } else {
+            lastNode.next = node;
+        }
+        lastNode = node;
+        length++;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Finding the Node at a given position, starting from the closest
+    //  of the first Node, the last Node and the cursor. The cursor is
+    //  then moved to the Node found.
+    //
+    // Input:
+    //  A valid position in the list.
+    //
+    // Output:
+    //  The Node at the given position.
+    //
+    // Complexity:
+    //  O(d): d is the distance from the closest known position.
+    // -------------------------------------------------------------------
+    private Node<T> nodeAt(int i) {
+        Node<T> node = firstNode;
+        int index = 0;
+        if (length - 1 - i < i) {
+            node = lastNode;
+            index = length - 1;
+        }
+        if (cursorNode != null && Math.abs(cursorIndex - i) < Math.abs(index - i)) {
+            node = cursorNode;
+            index = cursorIndex;
+        }
+        while (index < i) {
+            node = node.next;
+            index++;
+        }
+        while (index > i) {
+            node = node.previous;
+            index--;
+        }
+        cursorNode = node;
+        cursorIndex = i;
+        return node;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Fetches the data at a given position.
+    //
+    // Output:
+    //  An instance of the `T` class contained in the Node at position
+    //  `i` or null if the Node does not exist.
+    //
+    // Complexity:
+    //  O(1) near the previously accessed position or the ends of the
+    //  list. O(N) in the worst case.
+    // -------------------------------------------------------------------
+    public T get(int i) {
+        if (i < 0 || i > length - 1) {
+            return null;
+        }
+        return nodeAt(i).data;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Eliminates the Node at a given position in the list. The cursor
+    //  is left on the Node that takes that position, so removing many
+    //  consecutive positions stays O(1) per call.
+    //
+    // Output:
+    //  True if the element was removed. False otherwise.
+    //
+    // Complexity:
+    //  O(1) near the previously accessed position or the ends of the
+    //  list. O(N) in the worst case.
+    // -------------------------------------------------------------------
+    public boolean remove(int i) {
+        if (i < 0 || i >= length) {
+            return false;
+        }
+        Node<T> node = nodeAt(i);
+        unlink(node);
+        if (node.next != null) {
+            cursorNode = node.next;
+            cursorIndex = i;
+        } else {
+            cursorNode = node.previous;
+            cursorIndex = i - 1;
+        }
+        return true;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the first or the last Node of the list.
+    //
+    // Output:
+    //  The data of the removed Node, or null if the list is empty.
+    //
+    // Complexity:
+    //  O(1): Both ends of the list are always available.
+    // -------------------------------------------------------------------
+    public T removeFirst() {
+        if (isEmpty()) {
+            return null;
+        }
+        T data = firstNode.data;
+        remove(0);
+        return data;
+    }
+    public T removeLast() {
+        if (isEmpty()) {
+            return null;
+        }
+        T data = lastNode.data;
+        remove(length - 1);
+        return data;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Unlinking a Node from its neighbours. The Node keeps its own links
+    //  so the caller can still follow them.
+    // -------------------------------------------------------------------
+    private void unlink(Node<T> node) {
+        if (node.previous == null) {
+            firstNode = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (node.next == null) {
+            lastNode = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+        length--;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Inverting the list in O(N) by swapping the links of every Node.
+    //  The cursor keeps pointing at the same Node, whose position is
+    //  mirrored.
+    //
+    // Complexity:
+    //  O(N): Every Node is visited once.
+    // -------------------------------------------------------------------
+    public void invert() {
+        Node<T> node = firstNode;
+        while (node != null) {
+            Node<T> next = node.next;
+            node.next = node.previous;
+            node.previous = next;
+            node = next;
+        }
+        node = firstNode;
+        firstNode = lastNode;
+        lastNode = node;
+        cursorIndex = length - 1 - cursorIndex;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the list into a String.
+    //
+    // Complexity:
+    //  O(N): Iterating over each value in the list of N elements.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        Node<T> node = firstNode;
+        while (node != null) {
+            output.append(node);
+            node = node.next;
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  This method retrieves a list of values from STDIN, prints the
+    //  list, then removes every other value walking forward and prints
+    //  the results again to STDOUT.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) {
+
+        // Declaring variables.
+        Scanner scanner;
+        DoublyLinkedList<String> list;
+        String[] values;
+
+        // Initializing variables.
+        scanner = new Scanner(System.in);
+        list = new DoublyLinkedList<String>();
+
+        // Collecting list data from STDIN.
+        System.out.println("Insert a comma separated list of values:");
+        System.out.print(">>> ");
+        values = scanner.next().split(",");
+
+        // Appending elements to the list.
+        for (int i = 0; i < values.length; i++) {
+            list.addLast(values[i]);
+        }
+
+        // Printing the list.
+        System.out.println("DoublyLinkedList:");
+        System.out.println(list);
+
+        // Removing every other element. Each removal starts from the
+        // cursor left by the previous one.
+        for (int i = 0; i < list.length(); i++) {
+            list.remove(i);
+        }
+
+        // Printing the list after removing the elements.
+        System.out.println("After removing every other value:");
+        System.out.println(list);
+
+    }
+}
@@ -0,0 +1,301 @@
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implements a HashMap data structure with a flat memory layout.
+//  Instead of one HashEntry object per slot, the hashes, the keys and
+//  the values are stored in three parallel arrays. Collisions are
+//  resolved with linear probing, so a probe sequence reads adjacent
+//  positions of the arrays.
+//
+// Generic Data:
+//  The keys must implement the Hashable interface. The values can be
+//  instances of any given class.
+//
+// Visibility:
+//  This class is public. Any class can instantiate it.
+// -------------------------------------------------------------------
+public class FlatHashTable<K extends Hashable, V> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the parallel arrays of the table. The hash of every key
+    //  is cached, so a probe can reject a different key by comparing
+    //  two integers, without calling `equals()`. A slot is empty when
+    //  its key is null.
+    //
+    // Visibility:
+    //  Private. Only the FlatHashTable can modify the arrays.
+    // -------------------------------------------------------------------
+    private int[] hashes;
+    private Object[] keys;
+    private Object[] values;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Storing the amount of entries in the table.
+    // -------------------------------------------------------------------
+    private int count = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the maximum ratio of used slots before the table grows,
+    //  and caching the amount of entries that triggers the resize.
+    // -------------------------------------------------------------------
+    private double loadFactor = 0.75;
+    private int threshold;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  The constructor responsible for initializing an empty HashMap.
+    //
+    // Input:
+    //  An optional initial size, rounded up to the next power of two,
+    //  and an optional load factor in the range (0, 1).
+    // -------------------------------------------------------------------
+    public FlatHashTable() {
+        this(16);
+    }
+    public FlatHashTable(int size) {
+        this(size, 0.75);
+    }
+    public FlatHashTable(int size, double loadFactor) {
+        if (loadFactor <= 0 || loadFactor >= 1) {
+            throw new IllegalArgumentException("Invalid load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        int capacity = 2;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        initialize(capacity);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Initializing the arrays with empty data.
+    //
+    // Visibility:
+    //  This method is intended to be only executable by the constructor
+    //  and by the resize operation.
+    // -------------------------------------------------------------------
+    private void initialize(int size) {
+        hashes = new int[size];
+        keys = new Object[size];
+        values = new Object[size];
+        threshold = (int) (size * loadFactor);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Adding a new entry to the hash table, or replacing the value of
+    //  an existing key.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1) amortized.
+    // -------------------------------------------------------------------
+    public void put(K key, V value) {
+        if (count >= threshold) {
+            resize(keys.length * 2);
+        }
+        int hash = key.getHash();
+        int mask = keys.length - 1;
+        int position = hash & mask;
+        while (keys[position] != null) {
+            if (hashes[position] == hash && keys[position].equals(key)) {
+                values[position] = value;
+                return;
+            }
+            position = (position + 1) & mask;
+        }
+        hashes[position] = hash;
+        keys[position] = key;
+        values[position] = value;
+        count++;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Rebuilding the table with a new size. The cached hashes are used
+    //  to place every entry, so `getHash()` is not called again.
+    //
+    // Complexity:
+    //  O(N): Every entry is moved once.
+    // -------------------------------------------------------------------
+    private void resize(int newSize) {
+        int[] oldHashes = hashes;
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        initialize(newSize);
+        int mask = newSize - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) {
+                continue;
+            }
+            int position = oldHashes[i] & mask;
+            while (keys[position] != null) {
+                position = (position + 1) & mask;
+            }
+            hashes[position] = oldHashes[i];
+            keys[position] = oldKeys[i];
+            values[position] = oldValues[i];
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Finding the slot that holds the given key. The search stops at
+    //  the first empty slot.
+    //
+    // Output:
+    //  The position of the entry, or -1 if the key is not stored.
+    // -------------------------------------------------------------------
+    private int find(K key) {
+        int hash = key.getHash();
+        int mask = keys.length - 1;
+        int position = hash & mask;
+        while (keys[position] != null) {
+            if (hashes[position] == hash && keys[position].equals(key)) {
+                return position;
+            }
+            position = (position + 1) & mask;
+        }
+        return -1;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the value stored with the given key, or null if the key
+    //  does not exist.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int position = find(key);
+        if (position == -1) {
+            return null;
+        }
+        return (V) values[position];
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if an entry is stored with the given key.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    // -------------------------------------------------------------------
+    public boolean containsKey(K key) {
+        return find(key) != -1;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the entry stored with the given key.
+    //  Linear probing does not need tombstones: the entries that follow
+    //  the removed slot in the same cluster are shifted back, so that no
+    //  probe sequence is broken by the new empty slot.
+    //
+    // Output:
+    //  True if the entry was removed. False if it did not exist.
+    //
+    // Complexity:
+    //  O(1) on average: only the rest of the cluster is visited.
+    // -------------------------------------------------------------------
+    public boolean remove(K key) {
+        int hole = find(key);
+        if (hole == -1) {
+            return false;
+        }
+        int mask = keys.length - 1;
+        int position = (hole + 1) & mask;
+        while (keys[position] != null) {
+            int home = hashes[position] & mask;
+            // Moving the entry into the hole only when its home slot is
+            // not between the hole and its current position.
+            if (((position - home) & mask) >= ((position - hole) & mask)) {
+                hashes[hole] = hashes[position];
+                keys[hole] = keys[position];
+                values[hole] = values[position];
+                hole = position;
+            }
+            position = (position + 1) & mask;
+        }
+        keys[hole] = null;
+        values[hole] = null;
+        count--;
+        return true;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the amount of entries stored in the table.
+    // -------------------------------------------------------------------
+    public int length() {
+        return count;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the HashMap into a String.
+    //
+    // Output:
+    //  A string with one line per slot of the table.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            output.append(i).append(" -> ");
+            if (keys[i] != null) {
+                output.append(keys[i]).append(" = ").append(values[i]);
+            }
+            output.append('\n');
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  This method maps a few records to their score, then prints the
+    //  contents of the HashMap to STDOUT.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) {
+
+        // Declaring variables.
+        FlatHashTable<Person, Boolean> map;
+        Person[] records;
+
+        // Initializing variables.
+        map = new FlatHashTable<Person, Boolean>(10);
+
+        // Just a test here:
+        records = new Person[] {
+            new Person("96-14145", "Steven", "Andrea", 4.5),
+            new Person("96-12087", "Alberto", "Mendoza", 4.5),
+            new Person("96-14477", "Oscar", "Meza", 3.0),
+            new Person("96-13955", "Maria", "Ortega", 5.0),
+            new Person("96-11797", "Emely", "Arraiz", 5.0),
+            new Person("96-14878", "Maria", "Fuenmayor", 5.0),
+            new Person("96-14556", "Delia", "Gutiérrez", 5.0),
+            new Person("96-14551", "Martha", "Arteaga", 4.5),
+            new Person("96-12965", "Lázaro", "Rech", 4.5),
+            new Person("96-11052", "Wilmer", "Pereira", 4.5),
+        };
+
+        // Mapping every record to whether it passed or not.
+        for (int i = 0; i < records.length; i++) {
+            map.put(records[i], records[i].getScore() >= 4.0);
+        }
+        map.remove(new Person("96-14878"));
+
+        // Printing the HashMap.
+        System.out.println("HashMap:");
+        System.out.println(map);
+
+    }
+}
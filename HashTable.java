@@ -1,5 +1,9 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.InputMismatchException;
+import java.util.Iterator;
 
 // -------------------------------------------------------------------
 // Purpose:
@@ -22,19 +26,104 @@ public class HashTable<T> {
     // -------------------------------------------------------------------
     // Purpose:
     //  Storing the size of the hash table in memory.
+    //  The size is always a power of two, so the position of a hash can
+    //  be computed with a bit mask instead of a division.
     // -------------------------------------------------------------------
-    Integer size = 10;
+    Integer size = 16;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Storing the amount of entries currently stored in the table.
+    //
+    // Visibility:
+    //  Private. Only the HashMap can modify the counter.
+    // -------------------------------------------------------------------
+    private int count = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the marker left behind by removed entries, and a counter
+    //  with the amount of markers in the table.
+    //  A removed slot cannot be set back to null, otherwise the lookups
+    //  of the entries placed after it in the same probe sequence would
+    //  stop too early.
+    //
+    // Visibility:
+    //  Private. Only the HashMap can create and count tombstones.
+    // -------------------------------------------------------------------
+    private final HashEntry<T> tombstone = new HashEntry<T>(null);
+    private int tombstones = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the maximum ratio of occupied slots before the table
+    //  grows. Keeping the table sparse keeps the probe sequences short.
+    //
+    // Visibility:
+    //  Private. The load factor can only be set by the constructor.
+    // -------------------------------------------------------------------
+    private double loadFactor = 0.75;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Caching the amount of entries that triggers the next resize,
+    //  so `add()` does not multiply on every call.
+    // -------------------------------------------------------------------
+    private int threshold;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining whether the table uses Robin Hood hashing instead of
+    //  quadratic probing.
+    //  In Robin Hood mode the slots are probed linearly, and an entry
+    //  that is far from its home slot takes the place of an entry that
+    //  is closer to its own, which keeps every probe sequence short.
+    //
+    // Visibility:
+    //  Private. The mode can only be set by the constructor.
+    // -------------------------------------------------------------------
+    private boolean robinHood = false;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the counters used to monitor the table, and the flag
+    //  that enables them. The counters are only updated while the flag
+    //  is set, so a disabled table only pays for reading a boolean.
+    //
+    // Visibility:
+    //  Private. The counters are exposed through getter methods.
+    // -------------------------------------------------------------------
+    private boolean statistics = false;
+    private long probes = 0;
+    private long inserts = 0;
+    private long collisions = 0;
+    private int resizes = 0;
 
     // -------------------------------------------------------------------
     // Purpose:
     //  The constructor responsible for initializing an empty HashMap.
+    //
+    // Input:
+    //  An optional initial size, rounded up to the next power of two,
+    //  an optional load factor in the range (0, 1) and an optional flag
+    //  to enable Robin Hood hashing.
     // -------------------------------------------------------------------
     public HashTable() {
-        initialize();
+        initialize(size);
     }
     public HashTable(Integer size) {
-        this.size = size;
-        initialize();
+        this(size, 0.75);
+    }
+    public HashTable(Integer size, double loadFactor) {
+        this(size, loadFactor, false);
+    }
+    public HashTable(Integer size, double loadFactor, boolean robinHood) {
+        if (loadFactor <= 0 || loadFactor >= 1) {
+            throw new IllegalArgumentException("Invalid load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.robinHood = robinHood;
+        initialize(capacityFor(size));
     }
 
     // -------------------------------------------------------------------
@@ -42,40 +131,531 @@ public class HashTable<T> {
     //  Initializing the Array with empty data.
     //
     // Visibility:
-    //  This method is intended to be only executable by the constructor.
+    //  This method is intended to be only executable by the constructor
+    //  and by the resize operation.
     // -------------------------------------------------------------------
-    private void initialize() {
+    private void initialize(int size) {
+        this.size = size;
+        this.threshold = (int) (size * loadFactor);
         list = new ArrayList<HashEntry<T>>(size);
         for (int i = 0; i < size; i++) {
             list.add(i, null);
         }
     }
 
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Rounding a requested size up to the next power of two.
+    //
+    // Input:
+    //  A positive integer. Values lower than 2 are rounded up to 2.
+    //
+    // Output:
+    //  The smallest power of two that is greater or equal to the input.
+    // -------------------------------------------------------------------
+    private static int capacityFor(int size) {
+        int capacity = 2;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Mixing the bits of a hash before using it to find a slot.
+    //  The position is taken from the lowest bits of the hash, so hashes
+    //  with low entropy, such as sequential identifiers, would otherwise
+    //  fill neighbouring slots and build long probe sequences. This is
+    //  the finalizer step of the MurmurHash3 function.
+    //
+    // Input:
+    //  The hash returned by a Hashable instance.
+    //
+    // Output:
+    //  A hash whose bits depend on every bit of the input.
+    // -------------------------------------------------------------------
+    static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
     // -------------------------------------------------------------------
     // Purpose:
     //  Adding a new entry to the hash table.
+    //  If the entry already exists, it is replaced. If adding the entry
+    //  would exceed the load factor, the table is doubled first, or just
+    //  rehashed in place when most of the used slots are tombstones.
     //
     // Visibility:
     //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1) amortized: the table never gets full, so the probe sequence
+    //  always finds an empty slot after a few steps.
     // -------------------------------------------------------------------
     public void add(T value) {
-        HashEntry entry = new HashEntry(value);
-        Integer code = ((Hashable)value).getHash();
-        Integer position = code % size;
-        if (list.get(position) == null || list.get(position).equals(value)) {
-            list.set(position, entry);
-            return;
-        }
-        for (int i = 1; i < size; i++) {
-            code += (2 * i - 1);
-            position = code % size;
-            if (list.get(position) == null || list.get(position).equals(value)) {
+        if (count + tombstones >= threshold) {
+            resize(count >= threshold / 2 ? size * 2 : size);
+        }
+        if (insert(new HashEntry<T>(value), true)) {
+            count++;
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Adding many entries to the hash table at once.
+    //  The hashes of all the values are computed first. Then the table is
+    //  resized at most once to fit every value as a new entry, and the
+    //  entries are inserted without checking the load factor again.
+    //
+    // Input:
+    //  A Collection or an Iterator of values of type `T`. The values of
+    //  an Iterator are buffered, since their amount is unknown.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(N + M): M entries are inserted, and the N existing entries are
+    //  rehashed at most once.
+    // -------------------------------------------------------------------
+    public void addAll(Collection<T> values) {
+        ArrayList<HashEntry<T>> entries = new ArrayList<HashEntry<T>>(values.size());
+        for (T value : values) {
+            entries.add(new HashEntry<T>(value));
+        }
+        addEntries(entries);
+    }
+    public void addAll(Iterator<T> values) {
+        ArrayList<HashEntry<T>> entries = new ArrayList<HashEntry<T>>();
+        while (values.hasNext()) {
+            entries.add(new HashEntry<T>(values.next()));
+        }
+        addEntries(entries);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Inserting a batch of entries after making room for all of them.
+    //
+    // Visibility:
+    //  Private. It is only used by the bulk operations.
+    // -------------------------------------------------------------------
+    private void addEntries(ArrayList<HashEntry<T>> entries) {
+        int needed = capacityFor((int) Math.ceil((count + entries.size() + 1) / loadFactor));
+        if (needed > size) {
+            resize(needed);
+        } else if (count + tombstones + entries.size() >= threshold) {
+            resize(size);
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            if (insert(entries.get(i), true)) {
+                count++;
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Placing an entry in the first empty slot of its probe sequence.
+    //  Positions are visited following the triangular numbers
+    //  (+1, +2, +3, ...), which visit every slot of a table whose size
+    //  is a power of two.
+    //  When replacing, the whole sequence is walked up to the first
+    //  null slot looking for an equal entry, and the new entry reuses
+    //  the first tombstone found on the way, if any.
+    //
+    // Input:
+    //  The entry to store and whether an existing equal entry must be
+    //  searched for and replaced.
+    //
+    // Output:
+    //  True if a new slot was used. False if an entry was replaced.
+    // -------------------------------------------------------------------
+    private boolean insert(HashEntry<T> entry, boolean replace) {
+        if (robinHood) {
+            return insertRobinHood(entry, replace);
+        }
+        int mask = size - 1;
+        int position = entry.getHash() & mask;
+        int reusable = -1;
+        int reusableDistance = 0;
+        for (int i = 1; ; i++) {
+            HashEntry<T> current = list.get(position);
+            if (current == null) {
+                entry.setDistance(i - 1);
+                if (reusable != -1) {
+                    position = reusable;
+                    entry.setDistance(reusableDistance);
+                    tombstones--;
+                }
+                list.set(position, entry);
+                if (statistics && replace) {
+                    recordInsert(i, entry.getDistance() > 0);
+                }
+                return true;
+            }
+            if (current == tombstone) {
+                if (reusable == -1) {
+                    reusable = position;
+                    reusableDistance = i - 1;
+                }
+            } else if (replace && current.getHash() == entry.getHash()
+                    && current.equals(entry.getValue())) {
+                entry.setDistance(current.getDistance());
+                list.set(position, entry);
+                if (statistics) {
+                    recordInsert(i, false);
+                }
+                return false;
+            }
+            position = (position + i) & mask;
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Placing an entry using Robin Hood hashing.
+    //  The slots are probed linearly. Whenever the entry being placed is
+    //  farther from its home slot than the entry found in a slot, they
+    //  swap places and the displaced entry continues the probing.
+    //  When replacing, the same walk looks for an equal entry until the
+    //  first swap: past that point an equal entry cannot be stored, so
+    //  every slot is read once and counted once in the statistics.
+    //
+    // Input:
+    //  The entry to store and whether an existing equal entry must be
+    //  searched for and replaced.
+    //
+    // Output:
+    //  True if a new slot was used. False if an entry was replaced.
+    // -------------------------------------------------------------------
+    private boolean insertRobinHood(HashEntry<T> entry, boolean replace) {
+        int mask = size - 1;
+        int position = entry.getHash() & mask;
+        boolean searching = replace;
+        entry.setDistance(0);
+        for (int i = 1; ; i++) {
+            HashEntry<T> current = list.get(position);
+            if (current == null) {
                 list.set(position, entry);
-                return;
+                if (statistics && replace) {
+                    recordInsert(i, i > 1);
+                }
+                return true;
+            }
+            if (searching && current.getHash() == entry.getHash()
+                    && current.equals(entry.getValue())) {
+                entry.setDistance(current.getDistance());
+                list.set(position, entry);
+                if (statistics) {
+                    recordInsert(i, false);
+                }
+                return false;
+            }
+            if (current.getDistance() < entry.getDistance()) {
+                list.set(position, entry);
+                entry = current;
+                searching = false;
+            }
+            position = (position + 1) & mask;
+            entry.setDistance(entry.getDistance() + 1);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Rebuilding the table with a new size and rehashing every entry
+    //  into it.
+    //
+    // Visibility:
+    //  Private. The table decides by itself when to grow.
+    //
+    // Complexity:
+    //  O(N): Every entry is moved once.
+    // -------------------------------------------------------------------
+    private void resize(int newSize) {
+        ArrayList<HashEntry<T>> old = list;
+        initialize(newSize);
+        tombstones = 0;
+        if (statistics) {
+            resizes++;
+        }
+        for (int i = 0; i < old.size(); i++) {
+            if (old.get(i) != null && old.get(i) != tombstone) {
+                insert(old.get(i), false);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Finding the slot that holds an entry equal to the given value.
+    //  Tombstones are skipped, and the search stops at the first null
+    //  slot, since the value would have been stored there otherwise.
+    //
+    // Input:
+    //  A value of type `T` that implements the Hashable interface.
+    //
+    // Output:
+    //  The position of the entry, or -1 if the value is not stored.
+    //
+    // Complexity:
+    //  O(1) on average: a miss only costs the length of a probe chain.
+    // -------------------------------------------------------------------
+    private int find(T value) {
+        int mask = size - 1;
+        int hash = mix(((Hashable)value).getHash());
+        int position = hash & mask;
+        if (robinHood) {
+            // The search can stop as soon as the stored entries are
+            // closer to their home than the value would be, since the
+            // value would have taken their place when it was added.
+            for (int distance = 0; distance < size; distance++) {
+                HashEntry<T> current = list.get(position);
+                if (current == null || current.getDistance() < distance) {
+                    recordProbes(distance + 1);
+                    return -1;
+                }
+                if (current.getHash() == hash && current.equals(value)) {
+                    recordProbes(distance + 1);
+                    return position;
+                }
+                position = (position + 1) & mask;
+            }
+            return -1;
+        }
+        for (int i = 1; i <= size; i++) {
+            HashEntry<T> current = list.get(position);
+            if (current == null) {
+                recordProbes(i);
+                return -1;
+            }
+            if (current != tombstone && current.getHash() == hash && current.equals(value)) {
+                recordProbes(i);
+                return position;
+            }
+            position = (position + i) & mask;
+        }
+        return -1;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Updating the counters after an insertion or a lookup.
+    //
+    // Input:
+    //  The amount of slots read, and whether the entry could not be
+    //  stored in its home slot.
+    // -------------------------------------------------------------------
+    private void recordInsert(int slots, boolean collision) {
+        probes += slots;
+        inserts++;
+        if (collision) {
+            collisions++;
+        }
+    }
+    private void recordProbes(int slots) {
+        if (statistics) {
+            probes += slots;
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the stored entry that is equal to the given value.
+    //  For example, `get(new Person("96-14145"))` returns the complete
+    //  record of that student.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Output:
+    //  The stored instance of type `T`, or null if it does not exist.
+    // -------------------------------------------------------------------
+    public T get(T key) {
+        int position = find(key);
+        if (position == -1) {
+            return null;
+        }
+        return list.get(position).getValue();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if an entry equal to the given value is stored.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    // -------------------------------------------------------------------
+    public boolean containsKey(T key) {
+        return find(key) != -1;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the entry that is equal to the given value, leaving a
+    //  tombstone in its slot. Once tombstones take more than a quarter
+    //  of the table, the table is rehashed to get rid of them.
+    //  In Robin Hood mode no tombstone is needed: the following entries
+    //  are shifted back one slot until an empty slot or an entry that
+    //  is already at its home slot is found.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Output:
+    //  True if the entry was removed. False if it did not exist.
+    //
+    // Complexity:
+    //  O(1) amortized.
+    // -------------------------------------------------------------------
+    public boolean remove(T key) {
+        int position = find(key);
+        if (position == -1) {
+            return false;
+        }
+        if (robinHood) {
+            int mask = size - 1;
+            int next = (position + 1) & mask;
+            while (list.get(next) != null && list.get(next).getDistance() > 0) {
+                HashEntry<T> shifted = list.get(next);
+                shifted.setDistance(shifted.getDistance() - 1);
+                list.set(position, shifted);
+                position = next;
+                next = (next + 1) & mask;
+            }
+            list.set(position, null);
+            count--;
+            return true;
+        }
+        list.set(position, tombstone);
+        count--;
+        tombstones++;
+        if (tombstones > size / 4) {
+            resize(size);
+        }
+        return true;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Shrinking the table to the smallest power of two that holds the
+    //  current entries without exceeding the load factor.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(N): Every entry is rehashed if the table shrinks.
+    // -------------------------------------------------------------------
+    public void trim() {
+        int newSize = capacityFor((int) Math.ceil((count + 1) / loadFactor));
+        if (newSize < size) {
+            resize(newSize);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the amount of entries stored in the table.
+    //
+    // Complexity:
+    //  O(1): The counter is stored in memory.
+    // -------------------------------------------------------------------
+    public int length() {
+        return count;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the longest probe sequence of the stored entries, which is
+    //  the amount of slots a lookup reads before finding the entry.
+    //
+    // Visibility:
+    //  This method is public. It is intended for monitoring.
+    //
+    // Complexity:
+    //  O(N): Every slot of the table is read.
+    // -------------------------------------------------------------------
+    public int maxProbeLength() {
+        int max = 0;
+        for (int i = 0; i < size; i++) {
+            HashEntry<T> entry = list.get(i);
+            if (entry != null && entry != tombstone && entry.getDistance() + 1 > max) {
+                max = entry.getDistance() + 1;
+            }
+        }
+        return max;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the mean probe sequence length of the stored entries, or
+    //  0 if the table is empty.
+    //
+    // Visibility:
+    //  This method is public. It is intended for monitoring.
+    //
+    // Complexity:
+    //  O(N): Every slot of the table is read.
+    // -------------------------------------------------------------------
+    public double meanProbeLength() {
+        if (count == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            HashEntry<T> entry = list.get(i);
+            if (entry != null && entry != tombstone) {
+                total += entry.getDistance() + 1;
             }
         }
+        return (double) total / count;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Enabling or disabling the statistics counters. Enabling them
+    //  also resets them to zero.
+    //
+    // Visibility:
+    //  This method is public. It is intended for monitoring.
+    // -------------------------------------------------------------------
+    public void setStatistics(boolean enabled) {
+        if (enabled) {
+            probes = 0;
+            inserts = 0;
+            collisions = 0;
+            resizes = 0;
+        }
+        statistics = enabled;
     }
 
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Implementing the getters of the statistics counters:
+    //  - The amount of slots read by insertions and lookups.
+    //  - The ratio of insertions that could not use their home slot.
+    //  - The amount of times the table was rebuilt.
+    //  - The ratio of slots holding an entry.
+    //  - The amount of tombstones left by removals.
+    //
+    // Visibility:
+    //  Public. These methods are intended for monitoring.
+    // -------------------------------------------------------------------
+    public long probeCount() { return probes; }
+    public double collisionsPerInsert() { return inserts == 0 ? 0 : (double) collisions / inserts; }
+    public int resizeCount() { return resizes; }
+    public double occupancy() { return (double) count / size; }
+    public int tombstoneCount() { return tombstones; }
+
     // -------------------------------------------------------------------
     // Purpose:
     //  Transforms the HashMap into a String.
@@ -90,15 +670,39 @@ public class HashTable<T> {
     //  This method is public. Any class can call it.
     // -------------------------------------------------------------------
     public String toString() {
-        String output = "";
+        StringBuilder output = new StringBuilder();
+        try {
+            writeTo(output);
+        } catch (IOException error) {
+            // A StringBuilder never fails to append.
+            throw new UncheckedIOException(error);
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Writes the String representation of the HashMap to a stream, one
+    //  slot at a time, so large tables can be dumped to a file or a
+    //  socket without building the whole String in memory.
+    //
+    // Input:
+    //  Any Appendable, such as a Writer or a StringBuilder.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(N): Every slot of the table is written once.
+    // -------------------------------------------------------------------
+    public void writeTo(Appendable output) throws IOException {
         for (int i = 0; i < size; i++) {
-            if (list.get(i) == null) {
-                output += i + " -> \n";
-            } else {
-                output += i + " -> " +  list.get(i).toString() + "\n";
+            output.append(String.valueOf(i)).append(" -> ");
+            if (list.get(i) != null && list.get(i) != tombstone) {
+                output.append(list.get(i).toString());
             }
+            output.append('\n');
         }
-        return output;
     }
 
     // -------------------------------------------------------------------
@@ -112,6 +716,7 @@ public class HashTable<T> {
         // Declaring variables.
         String[] values;
         HashTable<Person> map;
+        Person key;
 
         // Initializing variables.
         map = new HashTable<Person>(10);
@@ -132,6 +737,18 @@ public class HashTable<T> {
         System.out.println("HashMap:");
         System.out.println(map);
 
+        // Printing the probe sequence statistics.
+        System.out.println("Max probe length: " + map.maxProbeLength());
+        System.out.println("Mean probe length: " + map.meanProbeLength());
+
+        // Looking up a record with an identifier built at runtime, so
+        // it is not the same String instance used to add the record.
+        key = new Person("96-" + String.valueOf(14145));
+        System.out.println("Record " + key.getId() + ": " + map.get(key));
+        System.out.println("Contains " + key.getId() + ": " + map.containsKey(key));
+        System.out.println("Removed " + key.getId() + ": " + map.remove(key));
+        System.out.println("Contains " + key.getId() + ": " + map.containsKey(key));
+
     }
 
     // -------------------------------------------------------------------
@@ -149,12 +766,29 @@ public class HashTable<T> {
         // -------------------------------------------------------------------
         private K value;
 
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Defining the amount of probe steps between the home slot of the
+        //  entry and the slot where it is stored.
+        // -------------------------------------------------------------------
+        private int distance = 0;
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Caching the mixed hash of the value, so resizing and probing do
+        //  not need to call `getHash()` again.
+        // -------------------------------------------------------------------
+        private int hash;
+
         // -------------------------------------------------------------------
         // Purpose:
         //  Defining the constructor fo the HashEntry.
         // -------------------------------------------------------------------
         public HashEntry(K value) {
             this.value = value;
+            if (value != null) {
+                this.hash = mix(((Hashable)value).getHash());
+            }
         }
 
         // -------------------------------------------------------------------
@@ -167,6 +801,17 @@ public class HashTable<T> {
         // -------------------------------------------------------------------
         public K getValue() { return value; }
 
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Implementing the getter and setter of the probe distance.
+        //
+        // Visibility:
+        //  Public. Any class with a reference to a HashEntry instance has
+        //  access to these methods.
+        // -------------------------------------------------------------------
+        public int getDistance() { return distance; }
+        public void setDistance(int distance) { this.distance = distance; }
+
         // -------------------------------------------------------------------
         // Purpose:
         //  Casting the HashEntry to String.
@@ -182,14 +827,14 @@ public class HashTable<T> {
         // -------------------------------------------------------------------
         // Purpose:
         //  Implementing the methods required to evaluate the Hash of a
-        //  HashEntry instance.
+        //  HashEntry instance. It returns the mixed hash of the value.
         //
         // Visibility:
         //  Public. Any class with a reference to a HashEntry instance has
         //  access to these methods.
         // -------------------------------------------------------------------
-        public Integer getHash() {
-            return ((Hashable)this.getValue()).getHash();
+        public int getHash() {
+            return hash;
         }
 
         // -------------------------------------------------------------------
@@ -206,154 +851,3 @@ public class HashTable<T> {
         }
     }
 }
-
-// -------------------------------------------------------------------
-// Purpose:
-//  Implements the Person class used in the main example.
-// -------------------------------------------------------------------
-class Person implements Hashable {
-
-    // -------------------------------------------------------------------
-    // Purpose:
-    //  Defining the record identifier, used to calculate the hash.
-    // -------------------------------------------------------------------
-    private String id;
-
-    // -------------------------------------------------------------------
-    // Purpose:
-    //  Defining the record name.
-    // -------------------------------------------------------------------
-    private String firstName;
-    private String lastName;
-
-    // -------------------------------------------------------------------
-    // Purpose:
-    //  Defining the record score.
-    // -------------------------------------------------------------------
-    private double score;
-
-    // -------------------------------------------------------------------
-    // Purpose:
-    //  Implementing the constructor of the Person.
-    //
-    // Visibility:
-    //  Public. Any class with a reference to a Personinstance has
-    //  access to these methods.
-    // -------------------------------------------------------------------
-    public Person(String id) {
-        this.id = id;
-    }
-    public Person(String id, String firstName, String lastName, double score) {
-        this.id = id;
-        setFirstName(firstName);
-        setLastName(lastName);
-        setScore(score);
-    }
-
-    // -------------------------------------------------------------------
-    // Purpose:
-    //  Implementing the getter and setter methods for the record id.
-    //
-    // Visibility:
-    //  Public. Any class with a reference to a Person instance has
-    //  access to these methods.
-    // -------------------------------------------------------------------
-    public String getId() { return id; }
-
-    // -------------------------------------------------------------------
-    // Purpose:
-    //  Implementing the getter and setter methods for the record name.
-    //
-    // Visibility:
-    //  Public. Any class with a reference to a Person instance has
-    //  access to these methods.
-    // -------------------------------------------------------------------
-    public void setFirstName(String firstName) { this.firstName = firstName; }
-    public void setLastName(String lastName) { this.lastName = lastName; }
-    public String getFirstName() { return firstName; }
-    public String getLastName() { return lastName; }
-
-    // -------------------------------------------------------------------
-    // Purpose:
-    //  Implementing the getter and setter methods for the record score.
-    //
-    // Visibility:
-    //  Public. Any class with a reference to a Person instance has
-    //  access to these methods.
-    // -------------------------------------------------------------------
-    public void setScore(double score) { this.score = score; }
-    public double getScore() { return score; }
-
-    // -------------------------------------------------------------------
-    // Purpose:
-    //  Casting the Person to String.
-    //
-    // Visibility:
-    //  Public. Any class with a reference to a Person instance has
-    //  access to these methods.
-    // -------------------------------------------------------------------
-    public String toString() {
-        String output = "";
-        output += this.getId();
-        output += " ";
-        output += this.getFirstName();
-        output += " ";
-        output += this.getLastName();
-        output += " ";
-        output += this.getScore();
-        return output;
-    }
-
-    // -------------------------------------------------------------------
-    // Purpose:
-    //  Implementing the methods required to evaluate the Hash of a
-    //  Person instance.
-    //
-    // Visibility:
-    //  Public. Any class with a reference to a Person instance has
-    //  access to these methods.
-    // -------------------------------------------------------------------
-    public Integer getHash() {
-        return Integer.parseInt(this.getId().substring(3));
-    }
-
-    // -------------------------------------------------------------------
-    // Purpose:
-    //  Implementing the methods required to evaluate if the object
-    //  is equal to another object.
-    //
-    // Visibility:
-    //  Public. Any class with a reference to a Person instance has
-    //  access to these methods.
-    // -------------------------------------------------------------------
-    public boolean equals(Object obj) {
-
-        // Checking if the other object is null.
-        if (obj == null) {
-            return false;
-        }
-      
-        // Checking if both the object references are 
-        // referring to the same object.
-        if(this == obj) {
-            return true;
-        }
-
-        // Checking if the class names are different.
-        if (obj.getClass() != this.getClass()) {
-            return false;
-        }
-
-        // Casting the other object to Person.
-        Person person = (Person) obj;
-
-        // Comparing the attributes of the 2 entries.
-        if (this.getId() == person.getId()) {
-            return true;
-        }
-
-        // By default, the objects are different.
-        return false;
-    }
-
-}
@@ -0,0 +1,14 @@
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implementing the interface for objects that can be stored in the
+//  IntKeyHashTable. The primitive hash is also the key of the object,
+//  so two objects with the same hash are considered the same entry.
+//  Implementations must build it from a value that is unique per
+//  object, such as the whole identifier of a record, and never from a
+//  part of it that other objects can share.
+// -------------------------------------------------------------------
+public interface IntHashable {
+    int getIntHash();
+    String toString();
+} 
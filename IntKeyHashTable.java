@@ -0,0 +1,296 @@
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implements a HashMap data structure specialized for primitive
+//  integer keys. The keys are stored in an `int[]` next to the array
+//  of values, so adding and looking up entries does not allocate any
+//  wrapper objects.
+//
+// Visibility:
+//  This class is public. Any class can instantiate it.
+// -------------------------------------------------------------------
+public class IntKeyHashTable<T extends IntHashable> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the marker left behind by removed entries.
+    //
+    // Visibility:
+    //  Private. Only the IntKeyHashTable can create tombstones.
+    // -------------------------------------------------------------------
+    private static final Object TOMBSTONE = new Object();
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the parallel arrays of keys and values. A slot is empty
+    //  when its value is null, and removed when it is the TOMBSTONE.
+    //
+    // Visibility:
+    //  Private. Only the IntKeyHashTable can modify the arrays.
+    // -------------------------------------------------------------------
+    private int[] keys;
+    private Object[] values;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Storing the amount of entries and tombstones in the table.
+    // -------------------------------------------------------------------
+    private int count = 0;
+    private int tombstones = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the maximum ratio of used slots before the table grows,
+    //  and caching the amount of used slots that triggers the resize.
+    // -------------------------------------------------------------------
+    private double loadFactor = 0.75;
+    private int threshold;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  The constructor responsible for initializing an empty HashMap.
+    //
+    // Input:
+    //  An optional initial size, rounded up to the next power of two,
+    //  and an optional load factor in the range (0, 1).
+    // -------------------------------------------------------------------
+    public IntKeyHashTable() {
+        this(16);
+    }
+    public IntKeyHashTable(int size) {
+        this(size, 0.75);
+    }
+    public IntKeyHashTable(int size, double loadFactor) {
+        if (loadFactor <= 0 || loadFactor >= 1) {
+            throw new IllegalArgumentException("Invalid load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        int capacity = 2;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        initialize(capacity);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Initializing the arrays with empty data.
+    //
+    // Visibility:
+    //  This method is intended to be only executable by the constructor
+    //  and by the resize operation.
+    // -------------------------------------------------------------------
+    private void initialize(int size) {
+        keys = new int[size];
+        values = new Object[size];
+        threshold = (int) (size * loadFactor);
+        tombstones = 0;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Adding a new entry to the hash table, replacing the entry with
+    //  the same key if it exists.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1) amortized, without allocating memory unless the table grows.
+    // -------------------------------------------------------------------
+    public void add(T value) {
+        if (count + tombstones >= threshold) {
+            resize(count >= threshold / 2 ? keys.length * 2 : keys.length);
+        }
+        int key = value.getIntHash();
+        int mask = keys.length - 1;
+        int position = key & mask;
+        int reusable = -1;
+        for (int i = 1; ; i++) {
+            Object current = values[position];
+            if (current == null) {
+                if (reusable != -1) {
+                    position = reusable;
+                    tombstones--;
+                }
+                keys[position] = key;
+                values[position] = value;
+                count++;
+                return;
+            }
+            if (current == TOMBSTONE) {
+                if (reusable == -1) {
+                    reusable = position;
+                }
+            } else if (keys[position] == key) {
+                values[position] = value;
+                return;
+            }
+            position = (position + i) & mask;
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Rebuilding the table with a new size and rehashing every entry
+    //  into it. Tombstones are dropped.
+    //
+    // Complexity:
+    //  O(N): Every entry is moved once.
+    // -------------------------------------------------------------------
+    private void resize(int newSize) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        initialize(newSize);
+        int mask = newSize - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldValues[j] == null || oldValues[j] == TOMBSTONE) {
+                continue;
+            }
+            int position = oldKeys[j] & mask;
+            for (int i = 1; values[position] != null; i++) {
+                position = (position + i) & mask;
+            }
+            keys[position] = oldKeys[j];
+            values[position] = oldValues[j];
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Finding the slot that holds the given key. Tombstones are skipped
+    //  and the search stops at the first empty slot.
+    //
+    // Output:
+    //  The position of the entry, or -1 if the key is not stored.
+    // -------------------------------------------------------------------
+    private int find(int key) {
+        int mask = keys.length - 1;
+        int position = key & mask;
+        for (int i = 1; i <= keys.length; i++) {
+            Object current = values[position];
+            if (current == null) {
+                return -1;
+            }
+            if (current != TOMBSTONE && keys[position] == key) {
+                return position;
+            }
+            position = (position + i) & mask;
+        }
+        return -1;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the entry stored with the given key, or null if the key
+    //  does not exist.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public T get(int key) {
+        int position = find(key);
+        if (position == -1) {
+            return null;
+        }
+        return (T) values[position];
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if an entry is stored with the given key.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    // -------------------------------------------------------------------
+    public boolean containsKey(int key) {
+        return find(key) != -1;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the entry stored with the given key, leaving a tombstone
+    //  in its slot. The table is rehashed once tombstones take more than
+    //  a quarter of the slots.
+    //
+    // Output:
+    //  True if the entry was removed. False if it did not exist.
+    // -------------------------------------------------------------------
+    public boolean remove(int key) {
+        int position = find(key);
+        if (position == -1) {
+            return false;
+        }
+        values[position] = TOMBSTONE;
+        count--;
+        tombstones++;
+        if (tombstones > keys.length / 4) {
+            resize(keys.length);
+        }
+        return true;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the amount of entries stored in the table.
+    // -------------------------------------------------------------------
+    public int length() {
+        return count;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the HashMap into a String.
+    //
+    // Output:
+    //  A string with one line per slot of the table.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            output.append(i).append(" -> ");
+            if (values[i] != null && values[i] != TOMBSTONE) {
+                output.append(values[i]);
+            }
+            output.append('\n');
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  This method adds a few records to the HashMap, then prints the
+    //  contents of the HashMap to STDOUT.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) {
+
+        // Declaring variables.
+        IntKeyHashTable<Person> map;
+
+        // Initializing variables.
+        map = new IntKeyHashTable<Person>(10);
+
+        // Just a test here:
+        map.add(new Person("96-14145", "Steven", "Andrea", 4.5));
+        map.add(new Person("96-12087", "Alberto", "Mendoza", 4.5));
+        map.add(new Person("96-14477", "Oscar", "Meza", 3.0));
+        map.add(new Person("96-13955", "Maria", "Ortega", 5.0));
+        map.add(new Person("96-11797", "Emely", "Arraiz", 5.0));
+        map.add(new Person("96-14878", "Maria", "Fuenmayor", 5.0));
+        map.add(new Person("96-14556", "Delia", "Gutiérrez", 5.0));
+        map.add(new Person("96-14551", "Martha", "Arteaga", 4.5));
+        map.add(new Person("96-12965", "Lázaro", "Rech", 4.5));
+        map.add(new Person("96-11052", "Wilmer", "Pereira", 4.5));
+
+        // Printing the HashMap.
+        System.out.println("HashMap:");
+        System.out.println(map);
+
+        // Looking up a record by its primitive key.
+        System.out.println("Record 96-14477:");
+        System.out.println(map.get(new Person("96-14477").getIntHash()));
+
+    }
+}
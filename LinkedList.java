@@ -1,4 +1,18 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 // -------------------------------------------------------------------
 // Purpose:
@@ -9,8 +23,12 @@ import java.util.Scanner;
 // Generic Data:
 //  Both the LinkedList and the Node type are generic and accept an
 //  instance of any given class, as defined when declaring the list.
+//
+// Iteration:
+//  The LinkedList is Iterable, so it can be traversed with a for-each
+//  loop or a Stream in O(N), instead of calling `get(i)` N times.
 // -------------------------------------------------------------------
-public class LinkedList<T> {
+public class LinkedList<T> implements Iterable<T> {
 
     // -------------------------------------------------------------------
     // Purpose:
@@ -21,6 +39,16 @@ public class LinkedList<T> {
     // -------------------------------------------------------------------
     private Node<T> firstNode = null;
 
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining a reference to the last Node of the LinkedList, so new
+    //  Nodes can be appended without walking the whole list.
+    //
+    // Visibility:
+    //  Private. Only the class can get and set the last node of the list.
+    // -------------------------------------------------------------------
+    private Node<T> lastNode = null;
+
     // -------------------------------------------------------------------
     // Purpose:
     //  Defining an integer counter with the size of the LinkedList.
@@ -30,6 +58,51 @@ public class LinkedList<T> {
     // -------------------------------------------------------------------
     private int length = 0;
 
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining a counter of structural modifications, used by the
+    //  iterators to detect that the list was modified behind them.
+    //
+    // Visibility:
+    //  Private. Only the class and its iterators can read it.
+    // -------------------------------------------------------------------
+    private int modifications = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining a free list of removed Nodes that can be reused by the
+    //  next insertions, its current length and its maximum length.
+    //  Recycling is disabled when the maximum length is 0.
+    //
+    // Visibility:
+    //  Private. Only the class can recycle Nodes.
+    // -------------------------------------------------------------------
+    private Node<T> freeNode = null;
+    private int freeLength = 0;
+    private int poolCapacity = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the chunk index: a reference to the first Node of every
+    //  segment of about `chunkSize` Nodes, so the list can be split into
+    //  segments processed by different threads.
+    //  Adding or removing Nodes at the ends of the list and moving whole
+    //  lists into its ends keep the index up to date, starting a new
+    //  segment whenever the segment at that end is full. Any other
+    //  change drops the index, which is set to null and rebuilt by the
+    //  next parallel operation.
+    //  Only the sizes of the first and last segments are tracked. They
+    //  just balance the segments: the parallel operations work with
+    //  segments of any size.
+    //
+    // Visibility:
+    //  Private. Only the class can build and read the index.
+    // -------------------------------------------------------------------
+    private ArrayList<Node<T>> index = new ArrayList<Node<T>>();
+    private int chunkSize = 4096;
+    private int firstChunk = 0;
+    private int lastChunk = 0;
+
     // -------------------------------------------------------------------
     // Purpose:
     //  Internal generic class defining a generic node in the LinkedList.
@@ -215,9 +288,71 @@ public class LinkedList<T> {
     // -------------------------------------------------------------------
     public LinkedList() {
         firstNode = null;
+        lastNode = null;
         length = 0;
     }
 
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Constructing an empty LinkedList that recycles its Nodes.
+    //  Up to `poolCapacity` removed Nodes are kept and reused by the
+    //  following insertions, so a list that keeps adding and removing
+    //  elements stops allocating once its size becomes stable.
+    //
+    // Input:
+    //  The maximum amount of Nodes to keep for reuse.
+    //
+    // Output:
+    //  Constructors must produce no output.
+    // -------------------------------------------------------------------
+    public LinkedList(int poolCapacity) {
+        this();
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException("Invalid pool capacity: " + poolCapacity);
+        }
+        this.poolCapacity = poolCapacity;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns a Node with the given data, taken from the free list if
+    //  possible, or created otherwise.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    private Node<T> obtain(T data) {
+        if (freeNode == null) {
+            return new Node<T>(data, null);
+        }
+        Node<T> node = freeNode;
+        freeNode = node.follow();
+        freeLength--;
+        node.set(data);
+        node.link(null);
+        return node;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Releases a Node that is no longer in the list. Its data is
+    //  cleared, so the list does not keep removed elements alive, and
+    //  the Node is kept in the free list if there is room for it.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    private void release(Node<T> node) {
+        node.set(null);
+        if (freeLength < poolCapacity) {
+            node.link(freeNode);
+            freeNode = node;
+            freeLength++;
+        } else {
+            node.link(null);
+        }
+    }
+
     // -------------------------------------------------------------------
     // Purpose:
     //  Returns the lenght of the LinkedList.
@@ -257,10 +392,193 @@ public class LinkedList<T> {
     //  O(1): Only java native operations.
     // -------------------------------------------------------------------
     public void add(T data) {
-        Node<T> node = new Node<T>(data, null);
+        addFirst(data);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Method to insert a Node to beginning of the LinkedList.
+    //  It is the same as `add()`.
+    //
+    // Visibility:
+    //  Public. Any class can add Nodes.
+    //
+    // Input:
+    //  It requires an instance of the generic type `T`.
+    //
+    // Output:
+    //  No output is produced.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public void addFirst(T data) {
+        Node<T> node = obtain(data);
         node.link(firstNode);
         firstNode = node;
+        if (lastNode == null) {
+            lastNode = node;
+        }
+        length++;
+        modifications++;
+        indexFirst(node);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Method to append a Node to the end of the LinkedList.
+    //
+    // Visibility:
+    //  Public. Any class can add Nodes.
+    //
+    // Input:
+    //  It requires an instance of the generic type `T`.
+    //
+    // Output:
+    //  No output is produced.
+    //
+    // Complexity:
+    //  O(1): The last Node is always available as a reference.
+    // -------------------------------------------------------------------
+    public void addLast(T data) {
+        Node<T> node = obtain(data);
+        if (lastNode == null) {
+            firstNode = node;
+        } else {
+            lastNode.link(node);
+        }
+        lastNode = node;
         length++;
+        modifications++;
+        indexLast(node);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Updating the chunk index after a Node was added at the beginning
+    //  or at the end of the list. The Node joins the segment at that
+    //  end, or starts a new segment if that one is full.
+    //
+    // Complexity:
+    //  O(1), and O(N / K) once every K Nodes added at the beginning,
+    //  when the references of the index are shifted.
+    // -------------------------------------------------------------------
+    private void indexFirst(Node<T> node) {
+        if (index == null) {
+            return;
+        }
+        if (index.isEmpty()) {
+            index.add(node);
+            firstChunk = 1;
+            lastChunk = 1;
+        } else if (firstChunk >= chunkSize) {
+            index.add(0, node);
+            firstChunk = 1;
+        } else {
+            index.set(0, node);
+            firstChunk++;
+            if (index.size() == 1) {
+                lastChunk = firstChunk;
+            }
+        }
+    }
+    private void indexLast(Node<T> node) {
+        if (index == null) {
+            return;
+        }
+        if (index.isEmpty()) {
+            index.add(node);
+            firstChunk = 1;
+            lastChunk = 1;
+        } else if (lastChunk >= chunkSize) {
+            index.add(node);
+            lastChunk = 1;
+        } else {
+            lastChunk++;
+            if (index.size() == 1) {
+                firstChunk = lastChunk;
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Updating the chunk index after the first Node was removed. The
+    //  first segment starts at the new first Node, or is dropped if the
+    //  removed Node was its only Node.
+    //
+    // Complexity:
+    //  O(1), and O(N / K) when a segment is dropped.
+    // -------------------------------------------------------------------
+    private void indexRemoveFirst() {
+        if (index == null) {
+            return;
+        }
+        if (firstNode == null) {
+            index.clear();
+            firstChunk = 0;
+            lastChunk = 0;
+        } else if (index.size() > 1 && index.get(1) == firstNode) {
+            index.remove(0);
+            firstChunk = index.size() == 1 ? lastChunk : chunkSize;
+        } else {
+            index.set(0, firstNode);
+            firstChunk--;
+            if (index.size() == 1) {
+                lastChunk = firstChunk;
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the first Node of the LinkedList.
+    //
+    // Visibility:
+    //  Any class can remove Nodes from the LinkedList.
+    //
+    // Input:
+    //  No input is required.
+    //
+    // Output:
+    //  The data of the removed Node, or null if the list is empty.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public T removeFirst() {
+        if (isEmpty()) {
+            return null;
+        }
+        T data = firstNode.get();
+        remove(0);
+        return data;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the last Node of the LinkedList.
+    //
+    // Visibility:
+    //  Any class can remove Nodes from the LinkedList.
+    //
+    // Input:
+    //  No input is required.
+    //
+    // Output:
+    //  The data of the removed Node, or null if the list is empty.
+    //
+    // Complexity:
+    //  O(N): The Nodes only link to the next Node, so the Node before
+    //        the last one must be found walking from the first Node.
+    // -------------------------------------------------------------------
+    public T removeLast() {
+        if (isEmpty()) {
+            return null;
+        }
+        T data = lastNode.get();
+        remove(length - 1);
+        return data;
     }
 
     // -------------------------------------------------------------------
@@ -311,8 +629,15 @@ public class LinkedList<T> {
             return false;
         } else if (i == 0) {
             // Removing the first element has constant complexity.
+            Node<T> removed = firstNode;
             firstNode = firstNode.follow();
+            release(removed);
+            if (firstNode == null) {
+                lastNode = null;
+            }
             length--;
+            modifications++;
+            indexRemoveFirst();
             return true;
         } else {
             // Just a Java native operation.
@@ -325,8 +650,15 @@ public class LinkedList<T> {
                 node = node.follow();
             }
             // More java constant operations.
-            node.link(node.follow().follow());
+            Node<T> removed = node.follow();
+            node.link(removed.follow());
+            release(removed);
+            if (node.isLast()) {
+                lastNode = node;
+            }
             length--;
+            modifications++;
+            index = null;
             return true;
         }
     }
@@ -353,6 +685,10 @@ public class LinkedList<T> {
         // One constant Java operation. O(1).
         // Worst case scenario: evaluates to True.
         if (!isEmpty()) {
+            // The first Node becomes the last one.
+            lastNode = firstNode;
+            modifications++;
+            index = null;
             // One constant Java operation. (1).
             previous = null;
             // One constant Java operation of complexity O(1).
@@ -376,6 +712,270 @@ public class LinkedList<T> {
         }
     }
 
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Sorting the LinkedList in place with a merge sort.
+    //  The Nodes are relinked, the data is never copied. The sort is
+    //  stable: equal elements keep their relative order.
+    //
+    // Visibility:
+    //  Any class can sort the LinkedList.
+    //
+    // Input:
+    //  A Comparator of the elements of the list.
+    //
+    // Output:
+    //  No output is required. The sorting is done "in place".
+    //
+    // Complexity:
+    //  O(N log N): log N levels of merges of N Nodes each.
+    // -------------------------------------------------------------------
+    public void sort(Comparator<? super T> comparator) {
+        if (length < 2) {
+            return;
+        }
+        firstNode = mergeSort(firstNode, length, comparator);
+        Node<T> node = firstNode;
+        while (!node.isLast()) {
+            node = node.follow();
+        }
+        lastNode = node;
+        modifications++;
+        index = null;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Sorting a chain of `n` Nodes ending in null, by sorting both
+    //  halves recursively and merging them.
+    //
+    // Output:
+    //  The first Node of the sorted chain.
+    // -------------------------------------------------------------------
+    private Node<T> mergeSort(Node<T> first, int n, Comparator<? super T> comparator) {
+        if (n < 2) {
+            return first;
+        }
+        // Cutting the chain in two halves.
+        Node<T> middle = first;
+        for (int j = 0; j < n / 2 - 1; j++) {
+            middle = middle.follow();
+        }
+        Node<T> second = middle.follow();
+        middle.link(null);
+        first = mergeSort(first, n / 2, comparator);
+        second = mergeSort(second, n - n / 2, comparator);
+        // Merging both sorted halves behind a temporary head.
+        Node<T> head = new Node<T>(null, null);
+        Node<T> tail = head;
+        while (first != null && second != null) {
+            if (comparator.compare(first.get(), second.get()) <= 0) {
+                tail.link(first);
+                first = first.follow();
+            } else {
+                tail.link(second);
+                second = second.follow();
+            }
+            tail = tail.follow();
+        }
+        tail.link(first != null ? first : second);
+        return head.follow();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Appending every element of an Iterable to the end of the list.
+    //  When the list is appended to itself, the original Nodes are
+    //  walked by count instead of with an iterator, since the appended
+    //  Nodes would otherwise be visited too.
+    //
+    // Visibility:
+    //  Any class can add elements to the LinkedList.
+    //
+    // Complexity:
+    //  O(M): M is the amount of elements added.
+    // -------------------------------------------------------------------
+    public void addAll(Iterable<? extends T> values) {
+        if (values == this) {
+            Node<T> node = firstNode;
+            for (int i = length; i > 0; i--) {
+                addLast(node.get());
+                node = node.follow();
+            }
+            return;
+        }
+        for (T value : values) {
+            addLast(value);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removing every element that matches a condition in a single
+    //  pass over the list.
+    //
+    // Visibility:
+    //  Any class can remove elements from the LinkedList.
+    //
+    // Input:
+    //  A Predicate that returns True for the elements to remove.
+    //
+    // Output:
+    //  True if any element was removed. False otherwise.
+    //
+    // Complexity:
+    //  O(N): Every Node is visited once.
+    // -------------------------------------------------------------------
+    public boolean removeIf(Predicate<? super T> condition) {
+        boolean removed = false;
+        Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (condition.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Moving every Node of another list to the end of this list.
+    //  The Nodes are relinked, and the other list becomes empty.
+    //
+    // Visibility:
+    //  Any class can concatenate lists.
+    //
+    // Output:
+    //  True if the Nodes were moved. False if both lists are the same,
+    //  since a list cannot be moved into itself.
+    //
+    // Complexity:
+    //  O(1): Only the ends of both lists are relinked.
+    // -------------------------------------------------------------------
+    public boolean concat(LinkedList<T> other) {
+        return splice(length, other);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Moving every Node of another list into this list, so that its
+    //  first element ends up at position `i`. The other list becomes
+    //  empty.
+    //
+    // Visibility:
+    //  Any class can splice lists.
+    //
+    // Input:
+    //  A position between 0 and the length of this list, and the list
+    //  whose Nodes are moved.
+    //
+    // Output:
+    //  True if the Nodes were moved. False if the position is invalid
+    //  or both lists are the same.
+    //
+    // Complexity:
+    //  O(i): Walking to the position. O(1) at both ends of the list.
+    // -------------------------------------------------------------------
+    public boolean splice(int i, LinkedList<T> other) {
+        if (i < 0 || i > length || other == this) {
+            return false;
+        }
+        if (other.isEmpty()) {
+            return true;
+        }
+        if (index == null || other.index == null || (i != 0 && i != length)) {
+            index = null;
+        } else if (i == length) {
+            if (index.isEmpty()) {
+                firstChunk = other.firstChunk;
+            }
+            index.addAll(other.index);
+            lastChunk = other.lastChunk;
+        } else {
+            ArrayList<Node<T>> joined = new ArrayList<Node<T>>(other.index);
+            joined.addAll(index);
+            index = joined;
+            firstChunk = other.firstChunk;
+        }
+        if (i == 0) {
+            other.lastNode.link(firstNode);
+            firstNode = other.firstNode;
+            if (lastNode == null) {
+                lastNode = other.lastNode;
+            }
+        } else if (i == length) {
+            lastNode.link(other.firstNode);
+            lastNode = other.lastNode;
+        } else {
+            Node<T> node = firstNode;
+            for (int j = 0; j < i - 1; j++) {
+                node = node.follow();
+            }
+            other.lastNode.link(node.follow());
+            node.link(other.firstNode);
+        }
+        length += other.length;
+        modifications++;
+        other.firstNode = null;
+        other.lastNode = null;
+        other.length = 0;
+        other.modifications++;
+        other.index = new ArrayList<Node<T>>();
+        other.firstChunk = 0;
+        other.lastChunk = 0;
+        return true;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Cutting the list at position `i`. The Nodes from that position to
+    //  the end are moved to a new list, and this list keeps the first
+    //  `i` Nodes.
+    //
+    // Visibility:
+    //  Any class can split the LinkedList.
+    //
+    // Input:
+    //  A position between 0 and the length of the list.
+    //
+    // Output:
+    //  A new LinkedList with the Nodes after the cut, or null if the
+    //  position is invalid.
+    //
+    // Complexity:
+    //  O(i): Walking to the position.
+    // -------------------------------------------------------------------
+    public LinkedList<T> split(int i) {
+        if (i < 0 || i > length) {
+            return null;
+        }
+        LinkedList<T> other = new LinkedList<T>();
+        if (i == length) {
+            return other;
+        }
+        other.index = null;
+        index = null;
+        other.lastNode = lastNode;
+        other.length = length - i;
+        if (i == 0) {
+            other.firstNode = firstNode;
+            firstNode = null;
+            lastNode = null;
+        } else {
+            Node<T> node = firstNode;
+            for (int j = 0; j < i - 1; j++) {
+                node = node.follow();
+            }
+            other.firstNode = node.follow();
+            node.link(null);
+            lastNode = node;
+        }
+        length = i;
+        modifications++;
+        return other;
+    }
+
     // -------------------------------------------------------------------
     // Purpose:
     //  Fetches the Node at a given position.
@@ -401,6 +1001,135 @@ public class LinkedList<T> {
         return node.get();
     }
 
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns an Iterator over the data of the LinkedList, from the
+    //  first Node to the last one.
+    //
+    // Visibility:
+    //  Public. Any class can iterate over the LinkedList.
+    //
+    // Output:
+    //  A fail-fast Iterator. It throws a ConcurrentModificationException
+    //  if the list is modified by anything other than the Iterator.
+    //
+    // Complexity:
+    //  O(1) per element.
+    // -------------------------------------------------------------------
+    public Iterator<T> iterator() {
+        return new NodeIterator();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns a Spliterator over the data of the LinkedList. The size
+    //  is known, so parallel streams can split the list in batches.
+    //
+    // Visibility:
+    //  Public. Any class can create a Spliterator.
+    // -------------------------------------------------------------------
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), length, Spliterator.ORDERED);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns a sequential or a parallel Stream over the LinkedList.
+    //
+    // Visibility:
+    //  Public. Any class can stream the LinkedList.
+    // -------------------------------------------------------------------
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Internal class implementing a cursor over the Nodes of the list.
+    //  It keeps a reference to the Node before the last returned Node,
+    //  so the last returned Node can be unlinked in O(1).
+    //
+    // Visibility:
+    //  Private. Instances are only created by `iterator()`.
+    // -------------------------------------------------------------------
+    private class NodeIterator implements Iterator<T> {
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Defining the Node to return next, the last returned Node and
+        //  the Node before it.
+        // -------------------------------------------------------------------
+        private Node<T> next = firstNode;
+        private Node<T> current = null;
+        private Node<T> previous = null;
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Defining the amount of modifications the iterator expects.
+        // -------------------------------------------------------------------
+        private int expected = modifications;
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Returns True if there are more Nodes to visit.
+        // -------------------------------------------------------------------
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Returns the data of the next Node and moves the cursor.
+        // -------------------------------------------------------------------
+        public T next() {
+            if (expected != modifications) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            if (current != null) {
+                previous = current;
+            }
+            current = next;
+            next = next.follow();
+            return current.get();
+        }
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Unlinks the last returned Node from the list.
+        //
+        // Complexity:
+        //  O(1): The previous Node is already known.
+        // -------------------------------------------------------------------
+        public void remove() {
+            if (expected != modifications) {
+                throw new ConcurrentModificationException();
+            }
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            if (previous == null) {
+                firstNode = next;
+            } else {
+                previous.link(next);
+            }
+            if (current == lastNode) {
+                lastNode = previous;
+            }
+            release(current);
+            current = null;
+            length--;
+            modifications++;
+            expected = modifications;
+            index = null;
+        }
+    }
+
     // -------------------------------------------------------------------
     // Purpose:
     //  Transforms the LinkedList into a String.
@@ -418,13 +1147,227 @@ public class LinkedList<T> {
     //  O(N): Iterating over each value in the list of N elements.
     // -------------------------------------------------------------------
     public String toString() {
-        String output = "";
+        StringBuilder output = new StringBuilder();
+        try {
+            writeTo(output);
+        } catch (IOException error) {
+            // A StringBuilder never fails to append.
+            throw new UncheckedIOException(error);
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Writes the String representation of the LinkedList to a stream,
+    //  one Node at a time, so large lists can be dumped to a file or a
+    //  socket without building the whole String in memory.
+    //
+    // Input:
+    //  Any Appendable, such as a Writer or a StringBuilder.
+    //
+    // Output:
+    //  No output is produced. Errors of the stream are thrown.
+    //
+    // Visibility:
+    //  This method is public.
+    //
+    // Complexity:
+    //  O(N): Iterating over each value in the list of N elements.
+    // -------------------------------------------------------------------
+    public void writeTo(Appendable output) throws IOException {
         Node<T> node = firstNode;
         while (node != null) {
-            output += node;
+            output.append('|').append(String.valueOf(node.get()));
+            output.append(node.isLast() ? "|" : "|->");
             node = node.follow();
         }
-        return output;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Building the chunk index, with a reference to every `chunkSize`-th
+    //  Node. The parallel operations build it automatically when it is
+    //  missing, using the last chunk size given.
+    //
+    // Visibility:
+    //  Any class can index the LinkedList.
+    //
+    // Input:
+    //  The amount of Nodes of every segment.
+    //
+    // Complexity:
+    //  O(N): One single walk over the list.
+    // -------------------------------------------------------------------
+    public void index(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        index = new ArrayList<Node<T>>(length / chunkSize + 1);
+        Node<T> node = firstNode;
+        for (int i = 0; node != null; i++) {
+            if (i % chunkSize == 0) {
+                index.add(node);
+            }
+            node = node.follow();
+        }
+        firstChunk = Math.min(length, chunkSize);
+        lastChunk = length - Math.max(index.size() - 1, 0) * chunkSize;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Rebuilding the chunk index if a change to the list dropped it.
+    // -------------------------------------------------------------------
+    private void ensureIndex() {
+        if (index == null) {
+            index(chunkSize);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the first Node after segment `j`, or null for the last
+    //  segment.
+    // -------------------------------------------------------------------
+    private Node<T> segmentEnd(int j) {
+        return j + 1 < index.size() ? index.get(j + 1) : null;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Inverting the LinkedList using many threads.
+    //  Every segment of the chunk index is inverted by a task of the
+    //  common ForkJoinPool. Then the segments are stitched together in
+    //  the opposite order. The index stays valid after the inversion.
+    //
+    // Visibility:
+    //  Any class can invert the LinkedList.
+    //
+    // Complexity:
+    //  O(N / P + N / K): P threads invert the segments, then the N / K
+    //  segments are stitched.
+    // -------------------------------------------------------------------
+    public void parallelInvert() {
+        if (length < 2) {
+            return;
+        }
+        ensureIndex();
+        final int segments = index.size();
+        final ArrayList<Node<T>> tails = new ArrayList<Node<T>>(segments);
+        for (int j = 0; j < segments; j++) {
+            tails.add(null);
+        }
+        IntStream.range(0, segments).parallel().forEach(j -> {
+            Node<T> end = segmentEnd(j);
+            Node<T> previous = null;
+            Node<T> node = index.get(j);
+            while (node != end) {
+                Node<T> next = node.follow();
+                node.link(previous);
+                previous = node;
+                node = next;
+            }
+            tails.set(j, previous);
+        });
+        // The first Node of every segment is now its last one, and it
+        // must link to the segment that used to be before it.
+        for (int j = 1; j < segments; j++) {
+            index.get(j).link(tails.get(j - 1));
+        }
+        lastNode = firstNode;
+        firstNode = tails.get(segments - 1);
+        // The segments are now in the opposite order.
+        ArrayList<Node<T>> inverted = new ArrayList<Node<T>>(segments);
+        for (int j = segments - 1; j >= 0; j--) {
+            inverted.add(tails.get(j));
+        }
+        index = inverted;
+        int chunk = firstChunk;
+        firstChunk = lastChunk;
+        lastChunk = chunk;
+        modifications++;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Applying a function to every element of the list using many
+    //  threads. Every segment of the chunk index is mapped into its own
+    //  list, and those lists are concatenated in order.
+    //
+    // Visibility:
+    //  Any class can map the LinkedList.
+    //
+    // Input:
+    //  A Function to apply to every element.
+    //
+    // Output:
+    //  A new LinkedList with the results, in the same order.
+    //
+    // Complexity:
+    //  O(N / P + N / K)
+    // -------------------------------------------------------------------
+    public <R> LinkedList<R> parallelMap(final Function<? super T, ? extends R> mapper) {
+        LinkedList<R> result = new LinkedList<R>();
+        if (isEmpty()) {
+            return result;
+        }
+        ensureIndex();
+        final int segments = index.size();
+        final ArrayList<LinkedList<R>> parts = new ArrayList<LinkedList<R>>(segments);
+        for (int j = 0; j < segments; j++) {
+            parts.add(new LinkedList<R>());
+        }
+        IntStream.range(0, segments).parallel().forEach(j -> {
+            Node<T> end = segmentEnd(j);
+            LinkedList<R> part = parts.get(j);
+            for (Node<T> node = index.get(j); node != end; node = node.follow()) {
+                part.addLast(mapper.apply(node.get()));
+            }
+        });
+        for (int j = 0; j < segments; j++) {
+            result.concat(parts.get(j));
+        }
+        return result;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the LinkedList into a String using many threads.
+    //  Every segment of the chunk index is written into its own buffer,
+    //  and the buffers are joined in order.
+    //
+    // Visibility:
+    //  This method is public.
+    //
+    // Output:
+    //  The same String as `toString()`.
+    //
+    // Complexity:
+    //  O(N / P + N)
+    // -------------------------------------------------------------------
+    public String parallelToString() {
+        if (isEmpty()) {
+            return "";
+        }
+        ensureIndex();
+        final int segments = index.size();
+        final String[] parts = new String[segments];
+        IntStream.range(0, segments).parallel().forEach(j -> {
+            Node<T> end = segmentEnd(j);
+            StringBuilder part = new StringBuilder();
+            for (Node<T> node = index.get(j); node != end; node = node.follow()) {
+                part.append('|').append(node.get());
+                part.append(node.isLast() ? "|" : "|->");
+            }
+            parts[j] = part.toString();
+        });
+        StringBuilder output = new StringBuilder();
+        for (int j = 0; j < segments; j++) {
+            output.append(parts[j]);
+        }
+        return output.toString();
     }
 
     // -------------------------------------------------------------------
@@ -0,0 +1,267 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implementation of a generic, sorted and lock-free LinkedList.
+//  Many threads can add, search and remove elements at the same time
+//  without blocking each other. It follows the Harris-Michael design:
+//  - The link to the next Node carries a mark, updated atomically
+//    together with the link using compare-and-set.
+//  - Removing a Node first marks its link (logical deletion), then
+//    unlinks it from the previous Node (physical deletion).
+//  - Any thread that walks over a marked Node helps to unlink it.
+//
+// Generic Data:
+//  The elements must be Comparable. They are kept in ascending order,
+//  and an element can only be stored once.
+// -------------------------------------------------------------------
+public class LockFreeLinkedList<T extends Comparable<? super T>> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the sentinel Node placed before the first element. It
+    //  holds no data and it is never removed.
+    //
+    // Visibility:
+    //  Private. Only the class can access the Nodes.
+    // -------------------------------------------------------------------
+    private final Node<T> head = new Node<T>(null, null);
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining an atomic counter with the size of the list.
+    // -------------------------------------------------------------------
+    private final AtomicInteger length = new AtomicInteger(0);
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Internal class defining a Node of the list. The link to the next
+    //  Node and the deletion mark of this Node change together.
+    // -------------------------------------------------------------------
+    private static class Node<K> {
+        private final K data;
+        private final AtomicMarkableReference<Node<K>> next;
+
+        public Node(K data, Node<K> next) {
+            this.data = data;
+            this.next = new AtomicMarkableReference<Node<K>>(next, false);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Internal class defining the pair of adjacent Nodes found by a
+    //  search: the last Node lower than the value, and the next one.
+    // -------------------------------------------------------------------
+    private static class Window<K> {
+        private final Node<K> previous;
+        private final Node<K> current;
+
+        public Window(Node<K> previous, Node<K> current) {
+            this.previous = previous;
+            this.current = current;
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Finding the position of a value, unlinking every marked Node
+    //  found on the way. If unlinking fails because another thread
+    //  changed the list, the search starts again from the head.
+    //
+    // Output:
+    //  A Window whose current Node is the first Node greater or equal
+    //  to the value, or null if there is none.
+    // -------------------------------------------------------------------
+    private Window<T> find(T value) {
+        boolean[] marked = new boolean[1];
+        retry:
+        while (true) {
+            Node<T> previous = head;
+            Node<T> current = previous.next.getReference();
+            while (current != null) {
+                Node<T> next = current.next.get(marked);
+                if (marked[0]) {
+                    // Helping to unlink a Node removed by another thread.
+                    if (!previous.next.compareAndSet(current, next, false, false)) {
+                        continue retry;
+                    }
+                    current = next;
+                    continue;
+                }
+                if (current.data.compareTo(value) >= 0) {
+                    break;
+                }
+                previous = current;
+                current = next;
+            }
+            return new Window<T>(previous, current);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Adding a value to the list, in order.
+    //
+    // Visibility:
+    //  Public. Any thread can add elements.
+    //
+    // Output:
+    //  True if the value was added. False if it was already stored.
+    //
+    // Complexity:
+    //  O(N): The list is sorted, so the position must be searched.
+    // -------------------------------------------------------------------
+    public boolean add(T value) {
+        while (true) {
+            Window<T> window = find(value);
+            if (window.current != null && window.current.data.compareTo(value) == 0) {
+                return false;
+            }
+            Node<T> node = new Node<T>(value, window.current);
+            if (window.previous.next.compareAndSet(window.current, node, false, false)) {
+                length.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removing a value from the list. The Node is marked first, which
+    //  is the moment it stops being part of the list, and then it is
+    //  unlinked. If unlinking fails, the next search will unlink it.
+    //
+    // Visibility:
+    //  Public. Any thread can remove elements.
+    //
+    // Output:
+    //  True if this thread removed the value. False if it was not found.
+    //
+    // Complexity:
+    //  O(N): The list is sorted, so the position must be searched.
+    // -------------------------------------------------------------------
+    public boolean remove(T value) {
+        while (true) {
+            Window<T> window = find(value);
+            Node<T> current = window.current;
+            if (current == null || current.data.compareTo(value) != 0) {
+                return false;
+            }
+            Node<T> next = current.next.getReference();
+            if (!current.next.compareAndSet(next, next, false, true)) {
+                continue;
+            }
+            length.decrementAndGet();
+            window.previous.next.compareAndSet(current, next, false, false);
+            return true;
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if the value is stored in the list. This method
+    //  never retries and never modifies the list.
+    //
+    // Visibility:
+    //  Public. Any thread can search elements.
+    //
+    // Complexity:
+    //  O(N): The Nodes lower than the value are visited.
+    // -------------------------------------------------------------------
+    public boolean contains(T value) {
+        Node<T> current = head.next.getReference();
+        while (current != null && current.data.compareTo(value) < 0) {
+            current = current.next.getReference();
+        }
+        return current != null
+            && current.data.compareTo(value) == 0
+            && !current.next.isMarked();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the size of the list. While other threads modify the
+    //  list, it is only an estimation.
+    //
+    // Complexity:
+    //  O(1): The counter is stored in memory.
+    // -------------------------------------------------------------------
+    public int length() {
+        return length.get();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if the list is empty.
+    // -------------------------------------------------------------------
+    public boolean isEmpty() {
+        return length() == 0;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the list into a String, skipping the removed Nodes.
+    //
+    // Complexity:
+    //  O(N): Iterating over each value in the list of N elements.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        Node<T> node = head.next.getReference();
+        while (node != null) {
+            if (!node.next.isMarked()) {
+                if (output.length() > 0) {
+                    output.append("->");
+                }
+                output.append('|').append(node.data).append('|');
+            }
+            node = node.next.getReference();
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  This method starts a few threads that add and remove numbers from
+    //  the same list, then prints the list to STDOUT.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) throws InterruptedException {
+
+        // Declaring variables.
+        final LockFreeLinkedList<Integer> list;
+        Thread[] threads;
+
+        // Initializing variables.
+        list = new LockFreeLinkedList<Integer>();
+        threads = new Thread[4];
+
+        // Every thread adds the numbers from 1 to 20, and then removes
+        // the odd ones. Each number is only stored once.
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                public void run() {
+                    for (int j = 1; j <= 20; j++) {
+                        list.add(j);
+                    }
+                    for (int j = 1; j <= 20; j += 2) {
+                        list.remove(j);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        // Waiting for every thread to finish.
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+        }
+
+        // Printing the list.
+        System.out.println("LockFreeLinkedList:");
+        System.out.println(list);
+
+    }
+}
@@ -0,0 +1,290 @@
+import java.util.Arrays;
+import java.util.Scanner;
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implementation of a LinkedList of primitive `long` values.
+//  Instead of one Node object per element, the values and the links
+//  are stored in two parallel arrays, and a link is the position of
+//  the next element in those arrays. The values are never boxed, and
+//  every element costs 12 bytes instead of a Node and a Long.
+//
+// Memory:
+//  The positions freed by removals are kept in a free list, linked
+//  through the same array of links, and reused by the next insertions.
+//  The arrays double their size when every position is used.
+// -------------------------------------------------------------------
+public class LongLinkedList {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the value that represents a missing link.
+    // -------------------------------------------------------------------
+    private static final int NONE = -1;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the parallel arrays of values and links.
+    //
+    // Visibility:
+    //  Private. Only the class can read and modify the arrays.
+    // -------------------------------------------------------------------
+    private long[] values;
+    private int[] links;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the positions of the first element, the last element
+    //  and the first free position.
+    // -------------------------------------------------------------------
+    private int first = NONE;
+    private int last = NONE;
+    private int free = NONE;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the amount of elements, and the amount of positions of
+    //  the arrays that were ever used.
+    // -------------------------------------------------------------------
+    private int length = 0;
+    private int used = 0;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Constructing an empty list, with an optional initial capacity.
+    // -------------------------------------------------------------------
+    public LongLinkedList() {
+        this(16);
+    }
+    public LongLinkedList(int capacity) {
+        values = new long[Math.max(capacity, 1)];
+        links = new int[Math.max(capacity, 1)];
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the lenght of the list.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public int length() {
+        return length;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if the list is empty.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns a position of the arrays to store a new element, reusing
+    //  a free position if possible, and growing the arrays otherwise.
+    //
+    // Complexity:
+    //  O(1) amortized.
+    // -------------------------------------------------------------------
+    private int allocate(long value) {
+        int position;
+        if (free != NONE) {
+            position = free;
+            free = links[position];
+        } else {
+            if (used == values.length) {
+                values = Arrays.copyOf(values, used * 2);
+                links = Arrays.copyOf(links, used * 2);
+            }
+            position = used++;
+        }
+        values[position] = value;
+        links[position] = NONE;
+        return position;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Method to insert a value to beginning of the list.
+    //  `add()` and `addFirst()` are the same, as in the LinkedList.
+    //
+    // Complexity:
+    //  O(1) amortized.
+    // -------------------------------------------------------------------
+    public void add(long value) {
+        addFirst(value);
+    }
+    public void addFirst(long value) {
+        int position = allocate(value);
+        links[position] = first;
+        first = position;
+        if (last == NONE) {
+            last = position;
+        }
+        length++;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Method to append a value to the end of the list.
+    //
+    // Complexity:
+    //  O(1) amortized.
+    // -------------------------------------------------------------------
+    public void addLast(long value) {
+        int position = allocate(value);
+        if (last == NONE) {
+            first = position;
+        } else {
+            links[last] = position;
+        }
+        last = position;
+        length++;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Fetches the value at a given position of the list.
+    //
+    // Output:
+    //  The value at position `i`. A primitive cannot be null, so an
+    //  IndexOutOfBoundsException is thrown if the position is invalid.
+    //
+    // Complexity:
+    //  O(N)
+    // -------------------------------------------------------------------
+    public long get(int i) {
+        if (i < 0 || i > length - 1) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Length: " + length);
+        }
+        int position = first;
+        for (int j = 0; j < i; j++) {
+            position = links[position];
+        }
+        return values[position];
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Eliminates the value at a given position in the list. Its array
+    //  position is added to the free list.
+    //
+    // Output:
+    //  True if the element was removed. False otherwise.
+    //
+    // Complexity:
+    //  O(N)
+    // -------------------------------------------------------------------
+    public boolean remove(int i) {
+        if (i < 0 || i >= length) {
+            return false;
+        }
+        int removed;
+        if (i == 0) {
+            removed = first;
+            first = links[removed];
+            if (first == NONE) {
+                last = NONE;
+            }
+        } else {
+            int position = first;
+            for (int j = 0; j < i - 1; j++) {
+                position = links[position];
+            }
+            removed = links[position];
+            links[position] = links[removed];
+            if (removed == last) {
+                last = position;
+            }
+        }
+        links[removed] = free;
+        free = removed;
+        length--;
+        return true;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Inverting the list in O(N), by reversing the links in place.
+    //
+    // Complexity:
+    //  O(N): Every link is reversed once.
+    // -------------------------------------------------------------------
+    public void invert() {
+        int previous = NONE;
+        int position = first;
+        last = first;
+        while (position != NONE) {
+            int next = links[position];
+            links[position] = previous;
+            previous = position;
+            position = next;
+        }
+        first = previous;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the list into a String, in the same format as the
+    //  LinkedList.
+    //
+    // Complexity:
+    //  O(N): Iterating over each value in the list of N elements.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        for (int position = first; position != NONE; position = links[position]) {
+            output.append('|').append(values[position]).append('|');
+            if (links[position] != NONE) {
+                output.append("->");
+            }
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  This method retrieves a list of numbers from STDIN, prints the
+    //  initial content of the list to STDOUT, then inverts the list and
+    //  prints the results again to STDOUT.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) {
+
+        // Declaring variables.
+        Scanner scanner;
+        LongLinkedList list;
+        String[] values;
+
+        // Initializing variables.
+        scanner = new Scanner(System.in);
+        list = new LongLinkedList();
+
+        // Collecting list data from STDIN.
+        System.out.println("Insert a comma separated list of numbers:");
+        System.out.print(">>> ");
+        values = scanner.next().split(",");
+
+        // Adding elements to the list.
+        for (int i = 0; i < values.length; i++) {
+            list.add(Long.parseLong(values[i]));
+        }
+
+        // Printing the list before inverting it.
+        System.out.println("LongLinkedList:");
+        System.out.println(list);
+
+        // Inverting the list.
+        list.invert();
+
+        // Printing the list after inverting it.
+        System.out.println("Inverted LongLinkedList:");
+        System.out.println(list);
+
+    }
+}
@@ -0,0 +1,528 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implements a persistent HashMap data structure stored in a memory
+//  mapped file. The slots live outside the Java heap, in regions of
+//  the file mapped with a FileChannel, and every entry is encoded with
+//  a fixed width. Opening an existing file maps it again, so the table
+//  is available right away without rebuilding it.
+//
+// File Layout:
+//  A header with the magic number, the amount of slots, the amount of
+//  entries and the width of the records, followed by the slots. Every
+//  slot holds a state byte, the integer key and the encoded record.
+//
+// Limits:
+//  A single mapping cannot exceed 2GB, so the slots are mapped as an
+//  array of regions of up to 1GB, each one holding a power of two
+//  amount of whole slots. A slot is found with a shift and a mask of
+//  its position, and the table can hold up to 2^30 slots.
+//
+// Visibility:
+//  This class is public. Any class can instantiate it.
+// -------------------------------------------------------------------
+public class MappedHashTable<T extends IntHashable> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the interface used to encode the records with a fixed
+    //  width. `write()` and `read()` must use exactly `width()` bytes,
+    //  starting at the current position of the buffer.
+    // -------------------------------------------------------------------
+    public interface Codec<T> {
+        int width();
+        void write(T value, ByteBuffer buffer);
+        T read(ByteBuffer buffer);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the constants of the file layout.
+    // -------------------------------------------------------------------
+    private static final int MAGIC = 0x48415348;
+    private static final int HEADER = 16;
+    private static final byte EMPTY = 0;
+    private static final byte USED = 1;
+    private static final int MAX_SLOTS = 1 << 30;
+    private static final long MAX_REGION = 1 << 30;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the file, the mapped slots and the codec of the table.
+    //
+    // Visibility:
+    //  Private. Only the MappedHashTable can access the mapped regions.
+    // -------------------------------------------------------------------
+    private File file;
+    private Slots slots;
+    private Codec<T> codec;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Storing the amount of slots, the amount of entries and the width
+    //  of a slot in memory. The first two are also kept in the header.
+    // -------------------------------------------------------------------
+    private int size;
+    private int count;
+    private int slotWidth;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  The constructor responsible for opening or creating the table.
+    //  If the file exists, it is mapped as is. Otherwise, an empty table
+    //  is created with the given size, rounded up to a power of two.
+    //
+    // Input:
+    //  The path of the file, the initial size and the record codec.
+    // -------------------------------------------------------------------
+    public MappedHashTable(String path, int size, Codec<T> codec) throws IOException {
+        this.file = new File(path);
+        this.codec = codec;
+        this.slotWidth = 1 + 4 + codec.width();
+        if (file.exists() && file.length() >= HEADER) {
+            MappedByteBuffer header = map(file, 0, HEADER);
+            int capacity = header.getInt(4);
+            if (header.getInt(0) != MAGIC || header.getInt(12) != codec.width()
+                    || file.length() < HEADER + (long) capacity * slotWidth) {
+                throw new IOException("Not a compatible table: " + path);
+            }
+            this.slots = new Slots(file, header, capacity, slotWidth);
+            this.size = capacity;
+            this.count = header.getInt(8);
+        } else {
+            int capacity = 2;
+            while (capacity < size) {
+                capacity <<= 1;
+            }
+            this.slots = create(file, capacity);
+            this.size = capacity;
+            this.count = 0;
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Mapping a file region of the given length into memory.
+    //  The channel can be closed right away: the mapping stays valid
+    //  until the buffer is garbage collected.
+    // -------------------------------------------------------------------
+    private static MappedByteBuffer map(File file, long start, long length) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, start, length);
+        } finally {
+            raf.close();
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Creating an empty table file with the given amount of slots and
+    //  writing its header. New files are filled with zeros, which is the
+    //  EMPTY state of every slot.
+    // -------------------------------------------------------------------
+    private Slots create(File file, int capacity) throws IOException {
+        if (capacity <= 0 || capacity > MAX_SLOTS) {
+            throw new IOException("Table too large to be mapped: " + capacity + " slots");
+        }
+        file.delete();
+        MappedByteBuffer header = map(file, 0, HEADER);
+        header.putInt(0, MAGIC);
+        header.putInt(4, capacity);
+        header.putInt(8, 0);
+        header.putInt(12, codec.width());
+        return new Slots(file, header, capacity, slotWidth);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Implements the mapped slots of a table file: the header and the
+    //  array of regions that hold the slots.
+    //  Every region holds `2^bits` slots, so the region of a position is
+    //  `position >>> bits` and its offset in the region is
+    //  `(position & mask) * width`. No slot is split between regions.
+    //
+    // Visibility:
+    //  Private. Only the MappedHashTable can use the mapped slots.
+    // -------------------------------------------------------------------
+    private static class Slots {
+
+        private MappedByteBuffer header;
+        private MappedByteBuffer[] regions;
+        private int bits;
+        private int mask;
+        private int width;
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Mapping the regions of a file with the given amount of slots.
+        //  A region holds the largest power of two amount of slots that
+        //  fits in MAX_REGION bytes, or all the slots if they are fewer.
+        // -------------------------------------------------------------------
+        public Slots(File file, MappedByteBuffer header, int capacity, int width)
+                throws IOException {
+            this.header = header;
+            this.width = width;
+            bits = 0;
+            while ((1L << (bits + 1)) * width <= MAX_REGION && (1 << bits) < capacity) {
+                bits++;
+            }
+            mask = (1 << bits) - 1;
+            regions = new MappedByteBuffer[(capacity + mask) >>> bits];
+            long length = (long) (mask + 1) * width;
+            for (int i = 0; i < regions.length; i++) {
+                regions[i] = map(file, HEADER + i * length, length);
+            }
+        }
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Reading and writing the state byte and the key of a slot.
+        // -------------------------------------------------------------------
+        public byte state(int position) {
+            return regions[position >>> bits].get((position & mask) * width);
+        }
+        public void setState(int position, byte state) {
+            regions[position >>> bits].put((position & mask) * width, state);
+        }
+        public int key(int position) {
+            return regions[position >>> bits].getInt((position & mask) * width + 1);
+        }
+        public void setKey(int position, int key) {
+            regions[position >>> bits].putInt((position & mask) * width + 1, key);
+        }
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Returns a buffer over the bytes of a slot, starting at `skip`.
+        // -------------------------------------------------------------------
+        public ByteBuffer slot(int position, int skip) {
+            int offset = (position & mask) * width;
+            ByteBuffer slot = regions[position >>> bits].duplicate();
+            slot.position(offset + skip);
+            slot.limit(offset + width);
+            return slot.slice();
+        }
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Copying the raw bytes of a slot into another slot, which can
+        //  belong to another table file.
+        // -------------------------------------------------------------------
+        public void copy(int from, Slots target, int to, byte[] buffer) {
+            slot(from, 0).get(buffer);
+            target.slot(to, 0).put(buffer);
+        }
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Writing the modified pages of every mapping to the disk.
+        // -------------------------------------------------------------------
+        public void force() {
+            header.force();
+            for (int i = 0; i < regions.length; i++) {
+                regions[i].force();
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Finding the slot that holds the given key, using linear probing.
+    //
+    // Output:
+    //  The position of the entry, or -1 if the key is not stored.
+    // -------------------------------------------------------------------
+    private int find(int key) {
+        int mask = size - 1;
+        int position = key & mask;
+        while (slots.state(position) == USED) {
+            if (slots.key(position) == key) {
+                return position;
+            }
+            position = (position + 1) & mask;
+        }
+        return -1;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Adding a new entry to the table, or replacing the entry with the
+    //  same key. The table grows when it is three quarters full.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1) amortized.
+    // -------------------------------------------------------------------
+    public void add(T value) {
+        if (count >= size / 4 * 3) {
+            resize(size * 2);
+        }
+        int key = value.getIntHash();
+        int mask = size - 1;
+        int position = key & mask;
+        while (slots.state(position) == USED) {
+            if (slots.key(position) == key) {
+                write(position, key, value);
+                return;
+            }
+            position = (position + 1) & mask;
+        }
+        write(position, key, value);
+        count++;
+        slots.header.putInt(8, count);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Encoding an entry into a slot of the mapped regions.
+    // -------------------------------------------------------------------
+    private void write(int position, int key, T value) {
+        slots.setState(position, USED);
+        slots.setKey(position, key);
+        codec.write(value, slots.slot(position, 5));
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Decoding the record stored in a slot of the mapped regions.
+    // -------------------------------------------------------------------
+    private T read(int position) {
+        return codec.read(slots.slot(position, 5));
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Rebuilding the table in a new file with a new size, then replacing
+    //  the old file. The slots are copied as raw bytes, without decoding
+    //  the records.
+    //
+    // Complexity:
+    //  O(N): Every slot is read once.
+    // -------------------------------------------------------------------
+    private void resize(int newSize) {
+        try {
+            File temporary = new File(file.getPath() + ".tmp");
+            Slots target = create(temporary, newSize);
+            int mask = newSize - 1;
+            byte[] slot = new byte[slotWidth];
+            for (int i = 0; i < size; i++) {
+                if (slots.state(i) != USED) {
+                    continue;
+                }
+                int position = slots.key(i) & mask;
+                while (target.state(position) == USED) {
+                    position = (position + 1) & mask;
+                }
+                slots.copy(i, target, position, slot);
+            }
+            target.header.putInt(8, count);
+            target.force();
+            if (!temporary.renameTo(file)) {
+                throw new IOException("Could not replace " + file);
+            }
+            slots = target;
+            size = newSize;
+        } catch (IOException error) {
+            throw new UncheckedIOException(error);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the entry stored with the given key, or null if the key
+    //  does not exist.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    // -------------------------------------------------------------------
+    public T get(int key) {
+        int position = find(key);
+        if (position == -1) {
+            return null;
+        }
+        return read(position);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if an entry is stored with the given key.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    // -------------------------------------------------------------------
+    public boolean containsKey(int key) {
+        return find(key) != -1;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the entry stored with the given key. The following slots
+    //  of the cluster are shifted back, so no tombstones are written to
+    //  the file.
+    //
+    // Output:
+    //  True if the entry was removed. False if it did not exist.
+    // -------------------------------------------------------------------
+    public boolean remove(int key) {
+        int hole = find(key);
+        if (hole == -1) {
+            return false;
+        }
+        int mask = size - 1;
+        int position = (hole + 1) & mask;
+        byte[] slot = new byte[slotWidth];
+        while (slots.state(position) == USED) {
+            int home = slots.key(position) & mask;
+            if (((position - home) & mask) >= ((position - hole) & mask)) {
+                slots.copy(position, slots, hole, slot);
+                hole = position;
+            }
+            position = (position + 1) & mask;
+        }
+        slots.setState(hole, EMPTY);
+        count--;
+        slots.header.putInt(8, count);
+        return true;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the amount of entries stored in the table.
+    // -------------------------------------------------------------------
+    public int length() {
+        return count;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Writing the modified pages of the mapped regions to the disk.
+    //  Otherwise, the operating system writes them whenever it decides.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    // -------------------------------------------------------------------
+    public void flush() {
+        slots.force();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  This method opens the table stored in `people.table`, adds a few
+    //  records if the table is empty, then prints a record to STDOUT.
+    //  Running it twice reads the records stored by the first run.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) throws IOException {
+
+        // Declaring variables.
+        MappedHashTable<Person> map;
+
+        // Initializing variables.
+        map = new MappedHashTable<Person>("people.table", 16, new PersonCodec());
+        System.out.println("Records found: " + map.length());
+
+        // Just a test here:
+        if (map.length() == 0) {
+            map.add(new Person("96-14145", "Steven", "Andrea", 4.5));
+            map.add(new Person("96-12087", "Alberto", "Mendoza", 4.5));
+            map.add(new Person("96-14477", "Oscar", "Meza", 3.0));
+            map.add(new Person("96-13955", "Maria", "Ortega", 5.0));
+            map.add(new Person("96-11797", "Emely", "Arraiz", 5.0));
+            map.add(new Person("96-14878", "Maria", "Fuenmayor", 5.0));
+            map.add(new Person("96-14556", "Delia", "Gutiérrez", 5.0));
+            map.add(new Person("96-14551", "Martha", "Arteaga", 4.5));
+            map.add(new Person("96-12965", "Lázaro", "Rech", 4.5));
+            map.add(new Person("96-11052", "Wilmer", "Pereira", 4.5));
+            map.flush();
+        }
+
+        // Looking up a record by its key.
+        System.out.println("Record 96-14477:");
+        System.out.println(map.get(new Person("96-14477").getIntHash()));
+
+    }
+}
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implements the fixed width encoding of the Person records used in
+//  the main example. The identifier takes 8 bytes, each name takes up
+//  to 32 bytes of UTF-8 preceded by its length, and the score takes
+//  8 bytes.
+// -------------------------------------------------------------------
+class PersonCodec implements MappedHashTable.Codec<Person> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the width of the fields of the record.
+    // -------------------------------------------------------------------
+    private static final int ID = 8;
+    private static final int NAME = 32;
+
+    public int width() {
+        return ID + 2 * (2 + NAME) + 8;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Encoding a Person into the buffer. Longer values are truncated.
+    // -------------------------------------------------------------------
+    public void write(Person person, ByteBuffer buffer) {
+        putString(buffer, person.getId(), ID, false);
+        putString(buffer, person.getFirstName(), NAME, true);
+        putString(buffer, person.getLastName(), NAME, true);
+        buffer.putDouble(person.getScore());
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Decoding a Person from the buffer.
+    // -------------------------------------------------------------------
+    public Person read(ByteBuffer buffer) {
+        String id = getString(buffer, ID, false).trim();
+        String firstName = getString(buffer, NAME, true);
+        String lastName = getString(buffer, NAME, true);
+        double score = buffer.getDouble();
+        return new Person(id, firstName, lastName, score);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Writing a string in a field of a fixed width. Fields that store
+    //  their length are preceded by a short with the amount of bytes,
+    //  the other ones are padded with spaces.
+    // -------------------------------------------------------------------
+    private static void putString(ByteBuffer buffer, String value, int width, boolean sized) {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, width);
+        if (sized) {
+            buffer.putShort((short) length);
+        }
+        buffer.put(bytes, 0, length);
+        for (int i = length; i < width; i++) {
+            buffer.put((byte) ' ');
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Reading a string from a field of a fixed width.
+    // -------------------------------------------------------------------
+    private static String getString(ByteBuffer buffer, int width, boolean sized) {
+        int length = sized ? buffer.getShort() : width;
+        byte[] bytes = new byte[width];
+        buffer.get(bytes);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
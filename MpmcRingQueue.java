@@ -0,0 +1,423 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implements a bounded Queue for any amount of producer and consumer
+//  threads, without locks, following Dmitry Vyukov's design.
+//  Every slot of the circular array has a sequence number that says
+//  whether it is ready to be written or read in the current lap:
+//   - A producer claims the tail position with a CAS when the slot's
+//     sequence equals the position, writes the element, and then
+//     publishes the slot by setting its sequence to position + 1.
+//   - A consumer claims the head position with a CAS when the slot's
+//     sequence equals position + 1, reads the element, and then frees
+//     the slot for the next lap by setting its sequence to
+//     position + capacity.
+//  Threads only compete on the CAS of one counter, and the counters
+//  are padded onto different cache lines.
+//
+// Visibility:
+//  This class is public. Any class can instantiate it.
+// -------------------------------------------------------------------
+public class MpmcRingQueue<T> implements Queue<T> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Positions of the head and tail counters in the padded array.
+    //  16 longs are 128 bytes, which covers adjacent line prefetching.
+    // -------------------------------------------------------------------
+    private static final int PADDING = 16;
+    private static final int HEAD = PADDING;
+    private static final int TAIL = PADDING * 2;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the circular array, the sequence number of each slot,
+    //  the mask and the counters.
+    //
+    // Visibility:
+    //  Private. Only the MpmcRingQueue can modify the arrays.
+    // -------------------------------------------------------------------
+    private final Object[] items;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLongArray counters = new AtomicLongArray(PADDING * 3);
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  The constructor responsible for initializing an empty Queue.
+    //  Slot `i` starts with sequence `i`: ready to be written in lap 0.
+    //
+    // Input:
+    //  The capacity of the Queue, rounded up to a power of two.
+    // -------------------------------------------------------------------
+    public MpmcRingQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = 2;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        items = new Object[size];
+        sequences = new AtomicLongArray(size);
+        mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Tries to put an instance of type `T` at the end of the Queue.
+    //
+    // Visibility:
+    //  This method is public. Any thread can call it.
+    //
+    // Output:
+    //  False if the Queue is full.
+    //
+    // Complexity:
+    //  O(1) without contention. A failed CAS means another producer
+    //  made progress, so the loop is lock-free.
+    // -------------------------------------------------------------------
+    public boolean offer(T x) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null elements are not allowed");
+        }
+        long tail = counters.get(TAIL);
+        while (true) {
+            int index = (int) tail & mask;
+            long difference = sequences.get(index) - tail;
+            if (difference == 0) {
+                if (counters.compareAndSet(TAIL, tail, tail + 1)) {
+                    items[index] = x;
+                    sequences.lazySet(index, tail + 1);
+                    return true;
+                }
+                tail = counters.get(TAIL);
+            } else if (difference < 0) {
+                return false;
+            } else {
+                tail = counters.get(TAIL);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Puts an instance of type `T` at the end of the Queue, waiting
+    //  for the consumers while the Queue is full.
+    //
+    // Visibility:
+    //  This method is public. Any thread can call it.
+    //
+    // Complexity:
+    //  O(1) when the Queue is not full.
+    // -------------------------------------------------------------------
+    public void shift(T x) {
+        while (!offer(x)) {
+            Thread.yield();
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the next element of the Queue and returns it, or returns
+    //  null if the Queue is empty.
+    //
+    // Visibility:
+    //  This method is public. Any thread can call it.
+    //
+    // Complexity:
+    //  O(1) without contention. A failed CAS means another consumer
+    //  made progress, so the loop is lock-free.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long head = counters.get(HEAD);
+        while (true) {
+            int index = (int) head & mask;
+            long difference = sequences.get(index) - (head + 1);
+            if (difference == 0) {
+                if (counters.compareAndSet(HEAD, head, head + 1)) {
+                    T x = (T) items[index];
+                    items[index] = null;
+                    sequences.lazySet(index, head + mask + 1);
+                    return x;
+                }
+                head = counters.get(HEAD);
+            } else if (difference < 0) {
+                return null;
+            } else {
+                head = counters.get(HEAD);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the next element of the Queue, if any.
+    //
+    // Visibility:
+    //  This method is public. Any thread can call it.
+    //
+    // Complexity:
+    //  O(1) without contention.
+    // -------------------------------------------------------------------
+    public void unshift() {
+        poll();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns a reference to the next value in the Queue, or null if
+    //  the Queue is empty. The element is only returned if no consumer
+    //  claimed it while it was being read.
+    //
+    // Visibility:
+    //  This method is public. Any thread can call it.
+    //
+    // Complexity:
+    //  O(1) without contention.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public T next() {
+        while (true) {
+            long head = counters.get(HEAD);
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                if (head == counters.get(HEAD)) {
+                    return null;
+                }
+                continue;
+            }
+            Object x = items[index];
+            if (head == counters.get(HEAD)) {
+                return (T) x;
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes up to `max` elements and passes them to a Consumer.
+    //  The run of consecutive published slots after the head is found
+    //  by reading their sequence numbers, and the whole run is claimed
+    //  with a single CAS on the head, instead of one CAS per element.
+    //  Every slot is freed for the producers before its element is
+    //  handed to the Consumer.
+    //  A claimed run cannot be given back to the head, so if the
+    //  Consumer throws, the elements of the run that were not handed
+    //  to it yet are dropped: their slots are freed and the exception
+    //  is thrown to the caller. A Consumer that may throw should catch
+    //  its own exceptions, or the elements should be taken one by one
+    //  with `poll()`.
+    //
+    // Visibility:
+    //  This method is public. Any thread can call it.
+    //
+    // Output:
+    //  The amount of elements removed.
+    //
+    // Complexity:
+    //  O(M): M is the amount of elements removed, with one successful
+    //  CAS per call when there is no contention.
+    // -------------------------------------------------------------------
+    public int drain(Consumer<? super T> consumer, int max) {
+        if (max <= 0) {
+            return 0;
+        }
+        long head;
+        int count;
+        while (true) {
+            head = counters.get(HEAD);
+            count = 0;
+            while (count < max
+                    && sequences.get((int) (head + count) & mask) == head + count + 1) {
+                count++;
+            }
+            if (count > 0) {
+                if (counters.compareAndSet(HEAD, head, head + count)) {
+                    break;
+                }
+            } else if (sequences.get((int) head & mask) < head + 1) {
+                return 0;
+            }
+        }
+        int delivered = 0;
+        try {
+            while (delivered < count) {
+                T x = release(head + delivered);
+                delivered++;
+                consumer.accept(x);
+            }
+        } finally {
+            for (long position = head + delivered; position < head + count; position++) {
+                release(position);
+            }
+        }
+        return delivered;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Reading the element of a claimed position and freeing its slot
+    //  for the next lap of the producers.
+    //
+    // Visibility:
+    //  Private. It is only used by `drain()`.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    private T release(long position) {
+        int index = (int) position & mask;
+        T x = (T) items[index];
+        items[index] = null;
+        sequences.lazySet(index, position + mask + 1);
+        return x;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if the Queue is empty.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public boolean isEmpty() {
+        long head = counters.get(HEAD);
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes every element that is in the Queue when it is called.
+    //
+    // Complexity:
+    //  O(N): Every element is removed once.
+    // -------------------------------------------------------------------
+    public void empty() {
+        while (poll() != null) {
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the size of the Queue. While other threads are running
+    //  the value is only an estimate.
+    //
+    // Complexity:
+    //  O(1): The counters are stored in memory.
+    // -------------------------------------------------------------------
+    public int length() {
+        long head = counters.get(HEAD);
+        long tail = counters.get(TAIL);
+        return (int) Math.max(0, Math.min(tail - head, items.length));
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the maximum amount of elements of the Queue.
+    // -------------------------------------------------------------------
+    public int capacity() {
+        return items.length;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the Queue into a String, in the same format as the
+    //  StackedQueue. Only published slots are read, and elements
+    //  consumed while reading are skipped.
+    //
+    // Complexity:
+    //  O(N): Every element is read once.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        long head = counters.get(HEAD);
+        long tail = counters.get(TAIL);
+        for (long i = tail - 1; i >= head; i--) {
+            int index = (int) i & mask;
+            if (sequences.get(index) == i + 1) {
+                Object x = items[index];
+                if (x != null) {
+                    output.append(x).append(", ");
+                }
+            }
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  Several producer threads send numbers through a small Queue
+    //  while several consumer threads add them.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) throws InterruptedException {
+
+        // Declaring variables.
+        final MpmcRingQueue<Integer> queue;
+        final int records;
+        final int total;
+        final AtomicLong sum;
+        final AtomicInteger received;
+        Thread[] producers;
+        Thread[] consumers;
+
+        // Initializing variables.
+        queue = new MpmcRingQueue<Integer>(1024);
+        records = 250000;
+        sum = new AtomicLong();
+        received = new AtomicInteger();
+        producers = new Thread[4];
+        consumers = new Thread[4];
+        total = records * producers.length;
+
+        // Every producer sends the numbers from 1 to `records`.
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(new Runnable() {
+                public void run() {
+                    for (int j = 1; j <= records; j++) {
+                        queue.shift(j);
+                    }
+                }
+            });
+            producers[i].start();
+        }
+
+        // Consumers poll until every record arrived.
+        for (int i = 0; i < consumers.length; i++) {
+            consumers[i] = new Thread(new Runnable() {
+                public void run() {
+                    while (received.get() < total) {
+                        Integer x = queue.poll();
+                        if (x == null) {
+                            Thread.yield();
+                            continue;
+                        }
+                        sum.addAndGet(x);
+                        received.incrementAndGet();
+                    }
+                }
+            });
+            consumers[i].start();
+        }
+
+        // Waiting for every thread to finish.
+        for (int i = 0; i < producers.length; i++) {
+            producers[i].join();
+        }
+        for (int i = 0; i < consumers.length; i++) {
+            consumers[i].join();
+        }
+
+        // Printing the result.
+        System.out.println("Records: " + received.get());
+        System.out.println("Sum: " + sum.get());
+
+    }
+}
@@ -0,0 +1,198 @@
+// -------------------------------------------------------------------
+// Purpose:
+//  Implements the Person record used by the examples of the hash
+//  tables. The record identifier has the form `PP-NNNNN`: a numeric
+//  prefix, a dash and a number of up to 5 digits.
+// -------------------------------------------------------------------
+public class Person implements Hashable, IntHashable {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the record identifier, used to calculate the hash.
+    // -------------------------------------------------------------------
+    private String id;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the record name.
+    // -------------------------------------------------------------------
+    private String firstName;
+    private String lastName;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the record score.
+    // -------------------------------------------------------------------
+    private double score;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Caching the hash of the record. The identifier cannot change, so
+    //  it is only parsed the first time the hash is requested.
+    // -------------------------------------------------------------------
+    private Integer hash;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Implementing the constructor of the Person.
+    //
+    // Visibility:
+    //  Public. Any class with a reference to a Personinstance has
+    //  access to these methods.
+    // -------------------------------------------------------------------
+    public Person(String id) {
+        this.id = id;
+    }
+    public Person(String id, String firstName, String lastName, double score) {
+        this.id = id;
+        setFirstName(firstName);
+        setLastName(lastName);
+        setScore(score);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Implementing the getter and setter methods for the record id.
+    //
+    // Visibility:
+    //  Public. Any class with a reference to a Person instance has
+    //  access to these methods.
+    // -------------------------------------------------------------------
+    public String getId() { return id; }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Implementing the getter and setter methods for the record name.
+    //
+    // Visibility:
+    //  Public. Any class with a reference to a Person instance has
+    //  access to these methods.
+    // -------------------------------------------------------------------
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Implementing the getter and setter methods for the record score.
+    //
+    // Visibility:
+    //  Public. Any class with a reference to a Person instance has
+    //  access to these methods.
+    // -------------------------------------------------------------------
+    public void setScore(double score) { this.score = score; }
+    public double getScore() { return score; }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Casting the Person to String.
+    //
+    // Visibility:
+    //  Public. Any class with a reference to a Person instance has
+    //  access to these methods.
+    // -------------------------------------------------------------------
+    public String toString() {
+        String output = "";
+        output += this.getId();
+        output += " ";
+        output += this.getFirstName();
+        output += " ";
+        output += this.getLastName();
+        output += " ";
+        output += this.getScore();
+        return output;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Implementing the methods required to evaluate the Hash of a
+    //  Person instance.
+    //
+    // Visibility:
+    //  Public. Any class with a reference to a Person instance has
+    //  access to these methods.
+    // -------------------------------------------------------------------
+    public Integer getHash() {
+        if (hash == null) {
+            hash = Integer.parseInt(this.getId().substring(3));
+        }
+        return hash;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Implementing the primitive hash used by the IntKeyHashTable.
+    //  The key must be unique per record, so it is built from the whole
+    //  identifier: `PP-NNNNN` becomes `PPNNNNN`. Both parts are kept,
+    //  so `95-14145` and `96-14145` never share a key.
+    //
+    // Visibility:
+    //  Public. Any class with a reference to a Person instance has
+    //  access to these methods.
+    //
+    // Output:
+    //  The key of the record. An IllegalArgumentException is thrown if
+    //  the identifier does not have the form `PP-NNNNN` or the key does
+    //  not fit in an int.
+    // -------------------------------------------------------------------
+    public int getIntHash() {
+        int dash = id.indexOf('-');
+        try {
+            long prefix = Integer.parseInt(id.substring(0, dash));
+            int number = Integer.parseInt(id.substring(dash + 1));
+            long key = prefix * 100000 + number;
+            if (dash > 0 && prefix >= 0 && number >= 0 && number < 100000
+                    && key <= Integer.MAX_VALUE) {
+                return (int) key;
+            }
+        } catch (NumberFormatException | StringIndexOutOfBoundsException error) {}
+        throw new IllegalArgumentException("Invalid record identifier: " + id);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Implementing the methods required to evaluate if the object
+    //  is equal to another object.
+    //
+    // Visibility:
+    //  Public. Any class with a reference to a Person instance has
+    //  access to these methods.
+    // -------------------------------------------------------------------
+    public boolean equals(Object obj) {
+
+        // Checking if the other object is null.
+        if (obj == null) {
+            return false;
+        }
+      
+        // Checking if both the object references are 
+        // referring to the same object.
+        if(this == obj) {
+            return true;
+        }
+
+        // Checking if the class names are different.
+        if (obj.getClass() != this.getClass()) {
+            return false;
+        }
+
+        // Casting the other object to Person.
+        Person person = (Person) obj;
+
+        // Comparing the cached hashes first, since it is cheaper than
+        // comparing the identifiers.
+        if (!this.getHash().equals(person.getHash())) {
+            return false;
+        }
+
+        // Comparing the attributes of the 2 entries.
+        if (this.getId().equals(person.getId())) {
+            return true;
+        }
+
+        // By default, the objects are different.
+        return false;
+    }
+
+}
@@ -1,9 +1,42 @@
+import java.util.function.Consumer;
 
 // -------------------------------------------------------------------
 // Purpose:
 //  Defines an interface of a generic Queue of type `T`.
+//  The default batch methods are built on `next()`, `unshift()` and
+//  `shift()`. A Queue shared between threads must override `drain()`
+//  and `poll()`, because another thread can remove the element
+//  between `next()` and `unshift()`.
+//  `poll()` removes the next element and returns it, or returns null
+//  if the Queue is empty.
 // -------------------------------------------------------------------
 public interface Queue<T> extends Container<T> {
     void shift(T x);
     void unshift();
+
+    default T poll() {
+        if (isEmpty()) {
+            return null;
+        }
+        T x = next();
+        unshift();
+        return x;
+    }
+
+    default int drain(Consumer<? super T> consumer, int max) {
+        int count = 0;
+        while (count < max && !isEmpty()) {
+            T x = next();
+            unshift();
+            consumer.accept(x);
+            count++;
+        }
+        return count;
+    }
+
+    default void shiftAll(Iterable<? extends T> values) {
+        for (T x : values) {
+            shift(x);
+        }
+    }
 }
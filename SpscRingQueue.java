@@ -0,0 +1,363 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implements a bounded Queue for exactly one producer thread and
+//  one consumer thread, without locks.
+//  The elements live in a circular array of a power of two size. The
+//  producer only writes the tail counter and the consumer only writes
+//  the head counter, so they never compete for the same variable.
+//  Both counters live in the same AtomicLongArray, far enough from
+//  each other and from the array header to sit on different cache
+//  lines, so the two threads do not invalidate each other's cache.
+//
+// Visibility:
+//  This class is public. Any class can instantiate it.
+//  `shift` and `offer` must only be called by the producer thread,
+//  and `unshift`, `poll`, `next` and `empty` by the consumer thread.
+// -------------------------------------------------------------------
+public class SpscRingQueue<T> implements Queue<T> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Positions of the head and tail counters in the padded array.
+    //  16 longs are 128 bytes, which covers adjacent line prefetching.
+    // -------------------------------------------------------------------
+    private static final int PADDING = 16;
+    private static final int HEAD = PADDING;
+    private static final int TAIL = PADDING * 2;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the circular array, its mask and the counters. The
+    //  cached counters are a private copy of the other thread's
+    //  counter, so it is only read again when the cached value says
+    //  the Queue is full (producer) or empty (consumer).
+    //  The producer writes `cached[HEAD]` and the consumer writes
+    //  `cached[TAIL]`, so they are padded apart like the counters.
+    //
+    // Visibility:
+    //  Private. Only the SpscRingQueue can modify the array.
+    // -------------------------------------------------------------------
+    private final Object[] items;
+    private final int mask;
+    private final AtomicLongArray counters = new AtomicLongArray(PADDING * 3);
+    private final long[] cached = new long[PADDING * 3];
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  The constructor responsible for initializing an empty Queue.
+    //
+    // Input:
+    //  The capacity of the Queue, rounded up to a power of two.
+    // -------------------------------------------------------------------
+    public SpscRingQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        items = new Object[size];
+        mask = size - 1;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Tries to put an instance of type `T` at the end of the Queue.
+    //  The element is written before the tail is published, so the
+    //  consumer never sees a slot that is not filled yet.
+    //
+    // Visibility:
+    //  This method is public. Only the producer thread can call it.
+    //
+    // Output:
+    //  False if the Queue is full.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public boolean offer(T x) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null elements are not allowed");
+        }
+        long tail = counters.get(TAIL);
+        if (tail - cached[HEAD] > mask) {
+            cached[HEAD] = counters.get(HEAD);
+            if (tail - cached[HEAD] > mask) {
+                return false;
+            }
+        }
+        items[(int) tail & mask] = x;
+        counters.lazySet(TAIL, tail + 1);
+        return true;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Puts an instance of type `T` at the end of the Queue, waiting
+    //  for the consumer while the Queue is full.
+    //
+    // Visibility:
+    //  This method is public. Only the producer thread can call it.
+    //
+    // Complexity:
+    //  O(1) when the Queue is not full.
+    // -------------------------------------------------------------------
+    public void shift(T x) {
+        while (!offer(x)) {
+            Thread.yield();
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the next element of the Queue and returns it, or returns
+    //  null if the Queue is empty. The slot is cleared before the head
+    //  is published, so the producer never overwrites a live element.
+    //
+    // Visibility:
+    //  This method is public. Only the consumer thread can call it.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long head = counters.get(HEAD);
+        if (head >= cached[TAIL]) {
+            cached[TAIL] = counters.get(TAIL);
+            if (head >= cached[TAIL]) {
+                return null;
+            }
+        }
+        int index = (int) head & mask;
+        T x = (T) items[index];
+        items[index] = null;
+        counters.lazySet(HEAD, head + 1);
+        return x;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the next element of the Queue, if any.
+    //
+    // Visibility:
+    //  This method is public. Only the consumer thread can call it.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public void unshift() {
+        poll();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns a reference to the next value in the Queue, or null if
+    //  the Queue is empty.
+    //
+    // Visibility:
+    //  This method is public. Only the consumer thread can call it.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public T next() {
+        long head = counters.get(HEAD);
+        if (head >= counters.get(TAIL)) {
+            return null;
+        }
+        return (T) items[(int) head & mask];
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes up to `max` elements and passes them to a Consumer. The
+    //  tail is read once and the head is published once, so the whole
+    //  batch costs the same synchronization as a single `poll()`.
+    //  If the Consumer throws, only the elements already handed to it
+    //  are removed, and the rest stay in the Queue.
+    //
+    // Visibility:
+    //  This method is public. Only the consumer thread can call it.
+    //
+    // Output:
+    //  The amount of elements removed.
+    //
+    // Complexity:
+    //  O(M): M is the amount of elements removed.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> consumer, int max) {
+        long head = counters.get(HEAD);
+        cached[TAIL] = counters.get(TAIL);
+        int count = (int) Math.min(cached[TAIL] - head, Math.max(max, 0));
+        int delivered = 0;
+        try {
+            while (delivered < count) {
+                int index = (int) (head + delivered) & mask;
+                T x = (T) items[index];
+                items[index] = null;
+                delivered++;
+                consumer.accept(x);
+            }
+        } finally {
+            counters.lazySet(HEAD, head + delivered);
+        }
+        return delivered;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Puts every value at the end of the Queue. The tail is only
+    //  published when the Queue looks full or at the end, instead of
+    //  once per value, and the producer waits while the Queue is full.
+    //
+    // Visibility:
+    //  This method is public. Only the producer thread can call it.
+    //
+    // Complexity:
+    //  O(M): M is the amount of values, when the Queue is not full.
+    // -------------------------------------------------------------------
+    public void shiftAll(Iterable<? extends T> values) {
+        long tail = counters.get(TAIL);
+        for (T x : values) {
+            if (x == null) {
+                counters.lazySet(TAIL, tail);
+                throw new IllegalArgumentException("Null elements are not allowed");
+            }
+            while (tail - cached[HEAD] > mask) {
+                counters.lazySet(TAIL, tail);
+                cached[HEAD] = counters.get(HEAD);
+                if (tail - cached[HEAD] > mask) {
+                    Thread.yield();
+                }
+            }
+            items[(int) tail & mask] = x;
+            tail++;
+        }
+        counters.lazySet(TAIL, tail);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if the Queue is empty.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public boolean isEmpty() {
+        return counters.get(HEAD) >= counters.get(TAIL);
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes every element the consumer can see.
+    //
+    // Visibility:
+    //  This method is public. Only the consumer thread can call it.
+    //
+    // Complexity:
+    //  O(N): Every element is removed once.
+    // -------------------------------------------------------------------
+    public void empty() {
+        while (poll() != null) {
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the size of the Queue. While the other thread is running
+    //  the value is only an estimate.
+    //
+    // Complexity:
+    //  O(1): The counters are stored in memory.
+    // -------------------------------------------------------------------
+    public int length() {
+        long head = counters.get(HEAD);
+        long tail = counters.get(TAIL);
+        return (int) Math.max(0, Math.min(tail - head, items.length));
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the maximum amount of elements of the Queue.
+    // -------------------------------------------------------------------
+    public int capacity() {
+        return items.length;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the Queue into a String, in the same format as the
+    //  StackedQueue. Elements consumed while reading are skipped.
+    //
+    // Complexity:
+    //  O(N): Every element is read once.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        long head = counters.get(HEAD);
+        long tail = counters.get(TAIL);
+        for (long i = tail - 1; i >= head; i--) {
+            Object x = items[(int) i & mask];
+            if (x != null) {
+                output.append(x).append(", ");
+            }
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  A producer thread sends a sequence of numbers through a small
+    //  Queue while the main thread consumes and adds them.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) throws InterruptedException {
+
+        // Declaring variables.
+        final SpscRingQueue<Integer> queue;
+        final int records;
+        Thread producer;
+        long sum;
+        int received;
+
+        // Initializing variables.
+        queue = new SpscRingQueue<Integer>(1024);
+        records = 1000000;
+        sum = 0;
+        received = 0;
+
+        // The producer waits whenever the Queue is full.
+        producer = new Thread(new Runnable() {
+            public void run() {
+                for (int i = 1; i <= records; i++) {
+                    queue.shift(i);
+                }
+            }
+        });
+        producer.start();
+
+        // The consumer polls until every record arrived.
+        while (received < records) {
+            Integer x = queue.poll();
+            if (x == null) {
+                Thread.yield();
+                continue;
+            }
+            sum += x;
+            received++;
+        }
+        producer.join();
+
+        // Printing the result.
+        System.out.println("Records: " + received);
+        System.out.println("Sum: " + sum);
+
+    }
+}
@@ -1,9 +1,40 @@
+import java.util.function.Consumer;
 
 // -------------------------------------------------------------------
 // Purpose:
 //  Defines an interface of a generic Stack of type `T`.
+//  The default batch methods are built on `next()`, `pop()` and
+//  `push()`.
+//  `popValue()` removes the top element and returns it, or returns
+//  null if the Stack is empty.
 // -------------------------------------------------------------------
 public interface Stack<T> extends Container<T> {
     void push(T x);
     void pop();
+
+    default T popValue() {
+        if (isEmpty()) {
+            return null;
+        }
+        T x = next();
+        pop();
+        return x;
+    }
+
+    default int drain(Consumer<? super T> consumer, int max) {
+        int count = 0;
+        while (count < max && !isEmpty()) {
+            T x = next();
+            pop();
+            consumer.accept(x);
+            count++;
+        }
+        return count;
+    }
+
+    default void pushAll(Iterable<? extends T> values) {
+        for (T x : values) {
+            push(x);
+        }
+    }
 } 
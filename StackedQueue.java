@@ -1,4 +1,7 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Scanner;
+import java.util.function.Consumer;
 import java.util.InputMismatchException;
 
 // -------------------------------------------------------------------
@@ -21,13 +24,35 @@ public class StackedQueue<T> implements Queue<T> {
     private InternalStack<T> stack1;
     private InternalStack<T> stack2;
 
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining whether the Queue uses the amortized mode.
+    //  By default, the first Stack always keeps the next element of the
+    //  Queue on top, which costs O(N) per insertion.
+    //  In the amortized mode, the first Stack is an inbox that receives
+    //  the new elements, and the second Stack is an outbox that returns
+    //  them. The outbox is only refilled, reversing the inbox, when it
+    //  runs empty, so every element is moved once.
+    //
+    // Visibility:
+    //  Private. The mode can only be set by the constructor.
+    // -------------------------------------------------------------------
+    private boolean amortized = false;
+
     // -------------------------------------------------------------------
     // Purpose:
     //  The constructor responsible for initializing an empty Queue.
+    //
+    // Input:
+    //  An optional flag to enable the amortized mode.
     // -------------------------------------------------------------------
     public StackedQueue() {
         empty();
     }
+    public StackedQueue(boolean amortized) {
+        this.amortized = amortized;
+        empty();
+    }
 
     // -------------------------------------------------------------------
     // Purpose:
@@ -50,8 +75,13 @@ public class StackedQueue<T> implements Queue<T> {
     //        with complexity O(1).
     //        Another iteration to put the elements of the second Stack
     //        back into the Previous one with complexity O(N).
+    //  O(1) in the amortized mode: the element is pushed to the inbox.
     // -------------------------------------------------------------------
     public void shift(T x) {
+        if (amortized) {
+            stack1.push(x);
+            return;
+        }
         // Removing the next element in the Queue and adding
         // it to the next element to the second Stack.
         while (!stack1.isEmpty()) {
@@ -86,11 +116,43 @@ public class StackedQueue<T> implements Queue<T> {
     // Complexity:
     //  O(1): The complexity of removing the first value of the LinkedList
     //        in the InternalStack class is 1.
+    //  O(1) amortized in the amortized mode.
     // -------------------------------------------------------------------
     public void unshift() {
+        if (amortized) {
+            refill();
+            stack2.pop();
+            return;
+        }
         stack1.pop();
     }
 
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the next element of the Queue and returns it, in a
+    //  single step instead of `next()` followed by `unshift()`.
+    //
+    // Input:
+    //  No input is required.
+    //
+    // Output:
+    //  The removed instance of type `T`, or null if the Queue is empty.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(1): The first Node of the LinkedList is unlinked once.
+    //  O(1) amortized in the amortized mode.
+    // -------------------------------------------------------------------
+    public T poll() {
+        if (amortized) {
+            refill();
+            return stack2.popValue();
+        }
+        return stack1.popValue();
+    }
+
     // -------------------------------------------------------------------
     // Purpose:
     //  Returns a reference to the next value in the Queue.
@@ -109,11 +171,95 @@ public class StackedQueue<T> implements Queue<T> {
     // Complexity:
     //  O(1): The complexity of reading the first value of the LinkedList
     //        in the InternalStack class is 1.
+    //  O(1) amortized in the amortized mode.
     // -------------------------------------------------------------------
     public T next() {
+        if (amortized) {
+            refill();
+            return stack2.next();
+        }
         return stack1.next();
     }
 
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Moving every element of the inbox to the outbox when the outbox
+    //  is empty. The oldest element ends up on top of the outbox.
+    //
+    // Visibility:
+    //  Private. It is only used in the amortized mode.
+    //
+    // Complexity:
+    //  O(1) amortized: each element is moved once in its lifetime.
+    // -------------------------------------------------------------------
+    private void refill() {
+        if (stack2.isEmpty()) {
+            while (!stack1.isEmpty()) {
+                stack2.push(stack1.next());
+                stack1.pop();
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes up to `max` elements from the Queue and passes them to a
+    //  Consumer. The elements are taken straight from the Stack that
+    //  keeps the next element on top, without a `next()` per element.
+    //
+    // Input:
+    //  The Consumer of the elements and the maximum amount to remove.
+    //
+    // Output:
+    //  The amount of elements removed.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(M): M is the amount of elements removed.
+    // -------------------------------------------------------------------
+    public int drain(Consumer<? super T> consumer, int max) {
+        if (!amortized) {
+            return stack1.drain(consumer, max);
+        }
+        int count = 0;
+        while (count < max) {
+            refill();
+            if (stack2.isEmpty()) {
+                break;
+            }
+            count += stack2.drain(consumer, max - count);
+        }
+        return count;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Puts every value into the Queue.
+    //  In the amortized mode they are pushed to the inbox. Otherwise
+    //  they are appended to the bottom of the first Stack, where
+    //  `shift()` would leave them, without moving the other elements.
+    //
+    // Input:
+    //  The values to be added, in Queue order.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(M): M is the amount of values.
+    // -------------------------------------------------------------------
+    public void shiftAll(Iterable<? extends T> values) {
+        if (amortized) {
+            stack1.pushAll(values);
+            return;
+        }
+        for (T x : values) {
+            stack1.list.addLast(x);
+        }
+    }
+
     // -------------------------------------------------------------------
     // Purpoe:
     //  Returns True if the Queue is empty.
@@ -175,10 +321,10 @@ public class StackedQueue<T> implements Queue<T> {
     //  This method is public. Any class can call it.
     //
     // Complexity:
-    //  O(1): The size of the first Stack is stored in memory.
+    //  O(1): The size of both Stacks is stored in memory.
     // -------------------------------------------------------------------
     public int length() {
-        return stack1.length();
+        return stack1.length() + stack2.length();
     }
 
     // -------------------------------------------------------------------
@@ -195,33 +341,68 @@ public class StackedQueue<T> implements Queue<T> {
     //  This method is public. Any class can call it.
     //
     // Complexity:
-    // O(N): N x (1 + 1) + 1 + 1 + N x (1 + 1 + 1 + 1) + 1
-    //       One iteration to move the elements of the first Stack into
-    //       the second Stack. O(N).
-    //       Another iteration to move the elements of the second Stack
-    //       back into the first Stack. O(N).
-    //       The rest are just insignificant constant operations.
+    //  O(N): The elements are written once by `writeTo()`.
     // -------------------------------------------------------------------
     public String toString() {
-        // Removing the next element in the Queue and adding
-        // it to the next element to the second Stack.
-        while (!stack1.isEmpty()) {
-            stack2.push(stack1.next());
-            stack1.pop();
+        StringBuilder output = new StringBuilder();
+        try {
+            writeTo(output);
+        } catch (IOException error) {
+            // A StringBuilder never fails to append.
+            throw new UncheckedIOException(error);
         }
-        // Creating a String to append to.
-        String output = "";
-        T value;
-        // Now putting the elements of the second stack back into
-        // the first stack.
-        while (!stack2.isEmpty()) {
-            value = stack2.next();
-            output += value + ", ";
-            stack1.push(value);
-            stack2.pop();
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Writes the String representation of the Queue to a stream, from
+    //  the last element added to the next element of the Queue.
+    //  A Stack that keeps the oldest element on top is inverted in place
+    //  to walk it in that order, and inverted back afterwards, even if
+    //  the stream fails. No element is copied between the Stacks.
+    //
+    // Input:
+    //  Any Appendable, such as a Writer or a StringBuilder.
+    //
+    // Visibility:
+    //  This method is public. Any class can call it.
+    //
+    // Complexity:
+    //  O(N): Two in-place inversions and one pass over the elements.
+    // -------------------------------------------------------------------
+    public void writeTo(Appendable output) throws IOException {
+        if (amortized) {
+            // The inbox keeps the newest element on top, and every
+            // element of the inbox is newer than those of the outbox.
+            writeTo(output, stack1, false);
+            writeTo(output, stack2, true);
+        } else {
+            writeTo(output, stack1, true);
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Writes the elements of a Stack, from the top or from the bottom.
+    //
+    // Visibility:
+    //  Private. It is only used by the public `writeTo()`.
+    // -------------------------------------------------------------------
+    private void writeTo(Appendable output, InternalStack<T> stack, boolean fromBottom)
+            throws IOException {
+        if (fromBottom) {
+            stack.list.invert();
+        }
+        try {
+            for (T value : stack.list) {
+                output.append(String.valueOf(value)).append(", ");
+            }
+        } finally {
+            if (fromBottom) {
+                stack.list.invert();
+            }
         }
-        // Returning the String representation of the Stack.
-        return output;
     }
 
     // -------------------------------------------------------------------
@@ -292,6 +473,26 @@ public class StackedQueue<T> implements Queue<T> {
             list.remove(0);
         }
 
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Removes the element on top of the Stack and returns it.
+        //
+        // Input:
+        //  No input is required.
+        //
+        // Output:
+        //  The removed instance of type `K`, or null if the Stack is empty.
+        //
+        // Visibility:
+        //  This method is public. The StackedQueue class can call it.
+        //
+        // Complexity:
+        //  O(1): The first Node of the LinkedList is unlinked once.
+        // -------------------------------------------------------------------
+        public K popValue() {
+            return list.removeFirst();
+        }
+
         // -------------------------------------------------------------------
         // Purpose:
         //  Returns a reference to the next value in the Stack.
@@ -313,6 +514,32 @@ public class StackedQueue<T> implements Queue<T> {
             return list.get(0);
         }
 
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Removes up to `max` elements from the top of the Stack and
+        //  passes them to a Consumer, unlinking each Node once.
+        //
+        // Input:
+        //  The Consumer of the elements and the maximum amount to remove.
+        //
+        // Output:
+        //  The amount of elements removed.
+        //
+        // Visibility:
+        //  This method is public. The StackedQueue class can call it.
+        //
+        // Complexity:
+        //  O(M): M is the amount of elements removed.
+        // -------------------------------------------------------------------
+        public int drain(Consumer<? super K> consumer, int max) {
+            int count = 0;
+            while (count < max && list.length() > 0) {
+                consumer.accept(list.removeFirst());
+                count++;
+            }
+            return count;
+        }
+
         // -------------------------------------------------------------------
         // Purpoe:
         //  Returns True if the Stack is empty.
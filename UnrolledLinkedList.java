@@ -0,0 +1,385 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+// -------------------------------------------------------------------
+// Purpose:
+//  Implementation of a generic unrolled LinkedList data structure.
+//  Instead of one Node per element, every Node holds a small array of
+//  elements, so a list of N elements only needs about N / capacity
+//  Nodes, and scanning it reads contiguous memory most of the time.
+//  It has the same API as the LinkedList, so it can replace it.
+//
+// Generic Data:
+//  The UnrolledLinkedList is generic and accepts an instance of any
+//  given class, as defined when declaring the list.
+// -------------------------------------------------------------------
+public class UnrolledLinkedList<T> implements Iterable<T> {
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining references to the first and the last Nodes of the list.
+    //
+    // Visibility:
+    //  Private. Only the class can get and set the ends of the list.
+    // -------------------------------------------------------------------
+    private Node firstNode = null;
+    private Node lastNode = null;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Defining the amount of elements in the list and the maximum
+    //  amount of elements of a single Node.
+    //
+    // Visibility:
+    //  Private. Only the class can get and set them.
+    // -------------------------------------------------------------------
+    private int length = 0;
+    private int capacity = 32;
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Internal class defining a Node that holds up to `capacity`
+    //  elements, stored from position 0 to `count - 1` of its array.
+    //
+    // Visibility:
+    //  Private. Only the UnrolledLinkedList class can create Nodes.
+    // -------------------------------------------------------------------
+    private class Node {
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Defining the elements of the Node, their amount and the
+        //  reference to the next Node.
+        // -------------------------------------------------------------------
+        private Object[] items = new Object[capacity];
+        private int count = 0;
+        private Node next;
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Inserting an element at a position of the Node, shifting the
+        //  following elements one position to the right.
+        //
+        // Complexity:
+        //  O(capacity): A constant amount of elements is moved.
+        // -------------------------------------------------------------------
+        public void insert(int i, Object data) {
+            System.arraycopy(items, i, items, i + 1, count - i);
+            items[i] = data;
+            count++;
+        }
+
+        // -------------------------------------------------------------------
+        // Purpose:
+        //  Removing the element at a position of the Node, shifting the
+        //  following elements one position to the left. The free slot is
+        //  cleared so the element can be garbage collected.
+        // -------------------------------------------------------------------
+        public void delete(int i) {
+            System.arraycopy(items, i + 1, items, i, count - i - 1);
+            count--;
+            items[count] = null;
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Constructing an empty list.
+    //
+    // Input:
+    //  An optional maximum amount of elements per Node. Larger Nodes
+    //  allocate less but move more elements when inserting or removing.
+    // -------------------------------------------------------------------
+    public UnrolledLinkedList() {
+    }
+    public UnrolledLinkedList(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns the lenght of the list.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public int length() {
+        return length;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns True if the list is empty.
+    //
+    // Complexity:
+    //  O(1): Only java native operations.
+    // -------------------------------------------------------------------
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Method to insert an element to the beginning of the list.
+    //  `add()` and `addFirst()` are the same, as in the LinkedList.
+    //  A new Node is only created when the first Node is full.
+    //
+    // Complexity:
+    //  O(capacity): The elements of the first Node are shifted.
+    // -------------------------------------------------------------------
+    public void add(T data) {
+        addFirst(data);
+    }
+    public void addFirst(T data) {
+        if (firstNode == null || firstNode.count == capacity) {
+            Node node = new Node();
+            node.next = firstNode;
+            firstNode = node;
+            if (lastNode == null) {
+                lastNode = node;
+            }
+        }
+        firstNode.insert(0, data);
+        length++;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Method to append an element to the end of the list.
+    //  A new Node is only created when the last Node is full.
+    //
+    // Complexity:
+    //  O(1): The last Node is always available as a reference.
+    // -------------------------------------------------------------------
+    public void addLast(T data) {
+        if (lastNode == null || lastNode.count == capacity) {
+            Node node = new Node();
+            if (lastNode == null) {
+                firstNode = node;
+            } else {
+                lastNode.next = node;
+            }
+            lastNode = node;
+        }
+        lastNode.items[lastNode.count++] = data;
+        length++;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Fetches the element at a given position.
+    //
+    // Output:
+    //  An instance of the `T` class at position `i` or null if the
+    //  position does not exist.
+    //
+    // Complexity:
+    //  O(N / capacity): Whole Nodes are skipped at once.
+    // -------------------------------------------------------------------
+    @SuppressWarnings("unchecked")
+    public T get(int i) {
+        if (i < 0 || i > length - 1) {
+            return null;
+        }
+        Node node = firstNode;
+        while (i >= node.count) {
+            i -= node.count;
+            node = node.next;
+        }
+        return (T) node.items[i];
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Eliminates the element at a given position in the list.
+    //  When a Node and the following one fit in a single Node, they
+    //  are merged, so the Nodes never become too sparse.
+    //
+    // Output:
+    //  True if the element was removed. False otherwise.
+    //
+    // Complexity:
+    //  O(N / capacity + capacity)
+    // -------------------------------------------------------------------
+    public boolean remove(int i) {
+        if (i < 0 || i >= length) {
+            return false;
+        }
+        Node previous = null;
+        Node node = firstNode;
+        while (i >= node.count) {
+            i -= node.count;
+            previous = node;
+            node = node.next;
+        }
+        node.delete(i);
+        length--;
+        if (node.count == 0) {
+            // Unlinking the empty Node.
+            if (previous == null) {
+                firstNode = node.next;
+            } else {
+                previous.next = node.next;
+            }
+            if (node == lastNode) {
+                lastNode = previous;
+            }
+        } else if (node.next != null && node.count + node.next.count <= capacity / 2) {
+            // Merging the next Node into this one.
+            Node next = node.next;
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count += next.count;
+            node.next = next.next;
+            if (next == lastNode) {
+                lastNode = node;
+            }
+        }
+        return true;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Removes the first or the last element of the list.
+    //
+    // Output:
+    //  The removed element, or null if the list is empty.
+    //
+    // Complexity:
+    //  O(capacity) for the first element. O(N / capacity) for the last
+    //  element, since the Nodes only link to the next Node.
+    // -------------------------------------------------------------------
+    public T removeFirst() {
+        T data = get(0);
+        remove(0);
+        return data;
+    }
+    public T removeLast() {
+        T data = get(length - 1);
+        remove(length - 1);
+        return data;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Inverting the list in O(N): the order of the Nodes is inverted,
+    //  then the elements of every Node.
+    //
+    // Complexity:
+    //  O(N): Every element is swapped at most once.
+    // -------------------------------------------------------------------
+    public void invert() {
+        Node previous = null;
+        Node node = firstNode;
+        lastNode = firstNode;
+        while (node != null) {
+            Node next = node.next;
+            node.next = previous;
+            for (int a = 0, b = node.count - 1; a < b; a++, b--) {
+                Object swap = node.items[a];
+                node.items[a] = node.items[b];
+                node.items[b] = swap;
+            }
+            previous = node;
+            node = next;
+        }
+        firstNode = previous;
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Returns an Iterator over the elements of the list, from the first
+    //  one to the last one.
+    //
+    // Complexity:
+    //  O(1) per element.
+    // -------------------------------------------------------------------
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node node = firstNode;
+            private int i = 0;
+
+            public boolean hasNext() {
+                return node != null && i < node.count;
+            }
+
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T data = (T) node.items[i++];
+                if (i == node.count) {
+                    node = node.next;
+                    i = 0;
+                }
+                return data;
+            }
+        };
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Transforms the list into a String, in the same format as the
+    //  LinkedList.
+    //
+    // Complexity:
+    //  O(N): Iterating over each value in the list of N elements.
+    // -------------------------------------------------------------------
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        for (Node node = firstNode; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (output.length() > 0) {
+                    output.append("->");
+                }
+                output.append('|').append(node.items[i]).append('|');
+            }
+        }
+        return output.toString();
+    }
+
+    // -------------------------------------------------------------------
+    // Purpose:
+    //  Main method of the Java Class.
+    //  This method retrieves a list of values from STDIN, prints the
+    //  initial content of the list to STDOUT, then inverts the list and
+    //  prints the results again to STDOUT.
+    // -------------------------------------------------------------------
+    public static void main(String args[]) {
+
+        // Declaring variables.
+        Scanner scanner;
+        UnrolledLinkedList<String> list;
+        String[] values;
+
+        // Initializing variables.
+        scanner = new Scanner(System.in);
+        list = new UnrolledLinkedList<String>(4);
+
+        // Collecting list data from STDIN.
+        System.out.println("Insert a comma separated list of values:");
+        System.out.print(">>> ");
+        values = scanner.next().split(",");
+
+        // Adding elements to the list.
+        for (int i = 0; i < values.length; i++) {
+            list.add(values[i]);
+        }
+
+        // Printing the list before inverting it.
+        System.out.println("UnrolledLinkedList:");
+        System.out.println(list);
+
+        // Inverting the list.
+        list.invert();
+
+        // Printing the list after inverting it.
+        System.out.println("Inverted UnrolledLinkedList:");
+        System.out.println(list);
+
+    }
+}